@@ -24,7 +24,11 @@
 
 package net.malisis.doors;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -94,6 +98,12 @@ public class DoorDescriptor
 	//digicode
 	protected String code = null;
 
+	/** Whether this {@link DoorDescriptor} was interned and is shared, in which case it can't be modified anymore. */
+	protected boolean interned = false;
+
+	/** Interned descriptors, by content. */
+	private static Map<List<Object>, DoorDescriptor> internedDescriptors = new ConcurrentHashMap<>();
+
 	public DoorDescriptor()
 	{
 		movement = DoorRegistry.getMovement(RotatingDoorMovement.class);
@@ -129,6 +139,7 @@ public class DoorDescriptor
 
 	public void setMaterial(Material material)
 	{
+		checkMutable();
 		this.material = material;
 	}
 
@@ -139,6 +150,7 @@ public class DoorDescriptor
 
 	public void setHardness(float hardness)
 	{
+		checkMutable();
 		this.hardness = hardness;
 	}
 
@@ -149,6 +161,7 @@ public class DoorDescriptor
 
 	public void setSoundType(SoundType soundType)
 	{
+		checkMutable();
 		this.soundType = soundType;
 	}
 
@@ -159,12 +172,14 @@ public class DoorDescriptor
 
 	public void setName(String name)
 	{
+		checkMutable();
 		setRegistryName(name);
 		setUnlocalizedName(name);
 	}
 
 	public void setRegistryName(String name)
 	{
+		checkMutable();
 		this.registryName = name;
 	}
 
@@ -175,6 +190,7 @@ public class DoorDescriptor
 
 	public void setUnlocalizedName(String name)
 	{
+		checkMutable();
 		unlocalizedName = name;
 	}
 
@@ -190,6 +206,7 @@ public class DoorDescriptor
 
 	public void setTextureName(String modid, String textureName)
 	{
+		checkMutable();
 		this.modid = modid;
 		this.textureName = textureName;
 	}
@@ -201,6 +218,7 @@ public class DoorDescriptor
 
 	public void setTileEntityClass(Class<? extends DoorTileEntity> clazz)
 	{
+		checkMutable();
 		this.tileEntityClass = clazz;
 	}
 
@@ -211,6 +229,7 @@ public class DoorDescriptor
 
 	public void setMovement(IDoorMovement movement)
 	{
+		checkMutable();
 		this.movement = movement;
 	}
 
@@ -221,6 +240,7 @@ public class DoorDescriptor
 
 	public void setSound(IDoorSound sound)
 	{
+		checkMutable();
 		this.sound = sound;
 	}
 
@@ -231,6 +251,7 @@ public class DoorDescriptor
 
 	public void setOpeningTime(int openingTime)
 	{
+		checkMutable();
 		this.openingTime = openingTime;
 	}
 
@@ -241,6 +262,7 @@ public class DoorDescriptor
 
 	public void setDoubleDoor(boolean doubleDoor)
 	{
+		checkMutable();
 		this.doubleDoor = doubleDoor;
 	}
 
@@ -251,6 +273,7 @@ public class DoorDescriptor
 
 	public void setProximityDetection(boolean proximity)
 	{
+		checkMutable();
 		this.proximityDetection = proximity;
 	}
 
@@ -261,6 +284,7 @@ public class DoorDescriptor
 
 	public void setRedstoneBehavior(RedstoneBehavior redstoneBehavior)
 	{
+		checkMutable();
 		this.redstoneBehavior = redstoneBehavior;
 	}
 
@@ -271,6 +295,7 @@ public class DoorDescriptor
 
 	public void setAutoCloseTime(int autoCloseTime)
 	{
+		checkMutable();
 		this.autoCloseTime = autoCloseTime;
 	}
 
@@ -281,6 +306,7 @@ public class DoorDescriptor
 
 	public void setTab(CreativeTabs tab)
 	{
+		checkMutable();
 		this.tab = tab;
 	}
 
@@ -291,11 +317,13 @@ public class DoorDescriptor
 
 	public void setMaxStackSize(int maxStackSize)
 	{
+		checkMutable();
 		this.maxStackSize = maxStackSize;
 	}
 
 	public void setCode(String code)
 	{
+		checkMutable();
 		this.code = code;
 	}
 
@@ -311,8 +339,62 @@ public class DoorDescriptor
 
 	//#end Getters/Setters
 
+	//#region Interning
+	private void checkMutable()
+	{
+		if (interned)
+			throw new IllegalStateException("Cannot modify an interned DoorDescriptor");
+	}
+
+	public boolean isInterned()
+	{
+		return interned;
+	}
+
+	/**
+	 * Gets the content of this {@link DoorDescriptor} that is relevant for the door behavior and the network.
+	 *
+	 * @return the content key
+	 */
+	private List<Object> contentKey()
+	{
+		return Arrays.asList(	getClass(),
+								block,
+								item,
+								tileEntityClass,
+								movement,
+								sound,
+								openingTime,
+								autoCloseTime,
+								doubleDoor,
+								proximityDetection,
+								redstoneBehavior,
+								code);
+	}
+
+	/**
+	 * Gets the shared instance with the same content as the {@link DoorDescriptor}.<br>
+	 * If there is none yet, the descriptor becomes the shared instance and can't be modified anymore.
+	 *
+	 * @param descriptor the descriptor
+	 * @return the interned descriptor
+	 */
+	public static DoorDescriptor intern(DoorDescriptor descriptor)
+	{
+		if (descriptor == null || descriptor.interned)
+			return descriptor;
+
+		return internedDescriptors.computeIfAbsent(descriptor.contentKey(), k -> {
+			descriptor.interned = true;
+			return descriptor;
+		});
+	}
+
+	//#end Interning
+
 	public void readNBT(NBTTagCompound nbt)
 	{
+		checkMutable();
 		if (nbt.hasKey("name"))
 			registryName = nbt.getString("name");
 		if (nbt.hasKey("modid"))
@@ -367,12 +449,14 @@ public class DoorDescriptor
 
 	public void set(Block block, Item item)
 	{
+		checkMutable();
 		this.block = block;
 		this.item = item;
 	}
 
 	public void create()
 	{
+		checkMutable();
 		block = new Door(this);
 		item = new DoorItem(this);
 	}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.google.common.collect.Lists;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import net.malisis.doors.network.DoorDescriptorMessage;
+import net.malisis.doors.registry.AutoLoad;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
+import net.minecraftforge.fml.common.network.FMLNetworkEvent.ClientDisconnectionFromServerEvent;
+
+/**
+ * The {@link DoorDescriptorTable} assigns small ids to the interned {@link DoorDescriptor DoorDescriptors} on the server, so that door
+ * updates only need to carry the id.<br>
+ * Each descriptor is sent to the clients once : all the known descriptors when a player logs in, then each new descriptor as soon as it's
+ * assigned an id.<br>
+ * Chunks already watched by a joining player are sent before the descriptors, so {@link DoorTileEntity DoorTileEntities} receiving an
+ * unknown id are kept pending until the corresponding descriptor arrives.
+ *
+ * @author Ordinastie
+ */
+@AutoLoad
+public class DoorDescriptorTable
+{
+	private static DoorDescriptorTable instance = new DoorDescriptorTable();
+
+	/** Ids of the interned descriptors, server side. */
+	private Map<DoorDescriptor, Integer> ids = new IdentityHashMap<>();
+	/** Descriptors by id, server side. */
+	private List<DoorDescriptor> descriptors = Lists.newArrayList();
+	/** Descriptors received from the server, client side. */
+	private TIntObjectHashMap<DoorDescriptor> clientDescriptors = new TIntObjectHashMap<>();
+	/** {@link DoorTileEntity DoorTileEntities} waiting for the descriptor of an unknown id, client side. */
+	private TIntObjectHashMap<Set<DoorTileEntity>> pending = new TIntObjectHashMap<>();
+
+	private DoorDescriptorTable()
+	{
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onPlayerLoggedIn(PlayerLoggedInEvent event)
+	{
+		if (event.player instanceof EntityPlayerMP)
+			DoorDescriptorMessage.sendAll((EntityPlayerMP) event.player, getAll());
+	}
+
+	@SubscribeEvent
+	public void onClientDisconnection(ClientDisconnectionFromServerEvent event)
+	{
+		//fired from the network thread
+		Minecraft.getMinecraft().addScheduledTask(DoorDescriptorTable::clearAll);
+	}
+
+	private synchronized List<DoorDescriptor> getAll()
+	{
+		return Lists.newArrayList(descriptors);
+	}
+
+	private synchronized int assignId(DoorDescriptor descriptor)
+	{
+		Integer id = ids.get(descriptor);
+		if (id != null)
+			return id;
+
+		id = descriptors.size();
+		ids.put(descriptor, id);
+		descriptors.add(descriptor);
+		DoorDescriptorMessage.sendNew(id, descriptor);
+		return id;
+	}
+
+	/**
+	 * Gets the id of the {@link DoorDescriptor}, server side.<br>
+	 * The descriptor is interned first, and sent to the clients if it didn't have an id yet.
+	 *
+	 * @param descriptor the descriptor
+	 * @return the id
+	 */
+	public static int getId(DoorDescriptor descriptor)
+	{
+		return instance.assignId(DoorDescriptor.intern(descriptor));
+	}
+
+	/**
+	 * Gets the {@link DoorDescriptor} received from the server for the id, client side.
+	 *
+	 * @param id the id
+	 * @return the descriptor, or null if unknown
+	 */
+	public static DoorDescriptor get(int id)
+	{
+		return instance.clientDescriptors.get(id);
+	}
+
+	/**
+	 * Gets the {@link DoorDescriptor} received from the server for the id, client side.<br>
+	 * If the id is not known yet, the {@link DoorTileEntity} is kept and its descriptor set when the one for that id is received.
+	 *
+	 * @param id the id
+	 * @param tileEntity the tile entity
+	 * @return the descriptor, or null if unknown
+	 */
+	public static DoorDescriptor get(int id, DoorTileEntity tileEntity)
+	{
+		TIntObjectHashMap<Set<DoorTileEntity>> pending = instance.pending;
+		//a newer id replaces the one the tile entity was waiting for
+		if (!pending.isEmpty())
+		{
+			pending.forEachValue(set -> {
+				set.remove(tileEntity);
+				return true;
+			});
+		}
+
+		DoorDescriptor descriptor = get(id);
+		if (descriptor == null)
+		{
+			Set<DoorTileEntity> waiting = pending.get(id);
+			if (waiting == null)
+				pending.put(id, waiting = Collections.newSetFromMap(new WeakHashMap<>()));
+			waiting.add(tileEntity);
+		}
+		return descriptor;
+	}
+
+	/**
+	 * Registers the {@link DoorDescriptor} received from the server, client side.<br>
+	 * The {@link DoorTileEntity DoorTileEntities} waiting for that id get their descriptor set.
+	 *
+	 * @param id the id
+	 * @param descriptor the descriptor
+	 */
+	public static void receive(int id, DoorDescriptor descriptor)
+	{
+		descriptor = DoorDescriptor.intern(descriptor);
+		instance.clientDescriptors.put(id, descriptor);
+
+		Set<DoorTileEntity> waiting = instance.pending.remove(id);
+		if (waiting == null)
+			return;
+		for (DoorTileEntity te : waiting)
+		{
+			if (!te.isInvalid() && te.getDescriptor() != descriptor)
+				te.setDescriptor(descriptor);
+		}
+	}
+
+	/**
+	 * Clears the {@link DoorDescriptor DoorDescriptors} received from the server, client side.
+	 */
+	public static void clearReceived()
+	{
+		instance.clientDescriptors.clear();
+	}
+
+	/**
+	 * Clears the {@link DoorDescriptor DoorDescriptors} received from the server and the pending {@link DoorTileEntity DoorTileEntities},
+	 * client side.
+	 */
+	public static void clearAll()
+	{
+		instance.clientDescriptors.clear();
+		instance.pending.clear();
+	}
+}
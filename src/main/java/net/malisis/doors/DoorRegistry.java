@@ -25,10 +25,10 @@
 package net.malisis.doors;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
-import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 
 import net.malisis.doors.movement.CurtainMovement;
@@ -74,6 +74,13 @@ public class DoorRegistry
 {
 	private static HashMap<String, IDoorMovement> movements = new HashMap<>();
 	private static HashMap<String, IDoorSound> sounds = new HashMap<>();
+	//indexes, rebuilt on registration
+	private static Map<IDoorMovement, String> movementIds = new IdentityHashMap<>();
+	private static Map<IDoorSound, String> soundIds = new IdentityHashMap<>();
+	private static ClassValue<IDoorMovement> movementClasses = classIndex(movements);
+	private static ClassValue<IDoorSound> soundClasses = classIndex(sounds);
+	private static Map<String, IDoorMovement> listedMovements = ImmutableMap.of();
+	private static Map<String, IDoorSound> listedSounds = ImmutableMap.of();
 	static
 	{
 		registerMovement("rotating_door", new RotatingDoorMovement());
@@ -114,6 +121,29 @@ public class DoorRegistry
 		registerSound("rustyDoor", new RustyDoorSound());
 	}
 
+	/**
+	 * Creates an index of the registered values by their class.<br>
+	 * A new index is created on each registration as {@link ClassValue} can't be updated.
+	 *
+	 * @param <T> the type of value
+	 * @param registry the registry
+	 * @return the class index
+	 */
+	private static <T> ClassValue<T> classIndex(Map<String, T> registry)
+	{
+		return new ClassValue<T>()
+		{
+			@Override
+			protected T computeValue(Class<?> type)
+			{
+				for (T value : registry.values())
+					if (value.getClass().equals(type))
+						return value;
+				return null;
+			}
+		};
+	}
+
 	//#region Movements
 	/**
 	 * Gets the movement register for the class.
@@ -123,9 +153,9 @@ public class DoorRegistry
 	 */
 	public static IDoorMovement getMovement(Class<? extends IDoorMovement> clazz)
 	{
-		for (IDoorMovement mvt : movements.values())
-			if (mvt.getClass().equals(clazz))
-				return mvt;
+		IDoorMovement mvt = movementClasses.get(clazz);
+		if (mvt != null)
+			return mvt;
 
 		throw new IllegalArgumentException(String.format("Door movement %s not found in the registry", clazz.getSimpleName()));
 	}
@@ -140,6 +170,9 @@ public class DoorRegistry
 		if (movements.get(id) != null)
 			throw new IllegalArgumentException(String.format("Door movement %s already in registry", id));
 		movements.put(id, movement);
+		movementIds.put(movement, id);
+		movementClasses = classIndex(movements);
+		listedMovements = ImmutableMap.copyOf(Maps.filterValues(movements, mvt -> !mvt.isSpecial()));
 	}
 
 	/**
@@ -164,27 +197,22 @@ public class DoorRegistry
 		if (movement == null)
 			return null;
 
-		for (Entry<String, IDoorMovement> entry : movements.entrySet())
-		{
-			if (entry.getValue() == movement)
-				return entry.getKey();
-		}
+		String id = movementIds.get(movement);
+		if (id != null)
+			return id;
 
 		throw new IllegalArgumentException(String.format(	"Door movement %s not found in the registry",
 															movement.getClass().getSimpleName()));
 	}
 
+	/**
+	 * Lists the movements that can be used for regular doors.
+	 *
+	 * @return the movements
+	 */
 	public static Map<String, IDoorMovement> listMovements()
 	{
-		return Maps.filterValues(movements, new Predicate<IDoorMovement>()
-		{
-			@Override
-			public boolean apply(IDoorMovement input)
-			{
-				return !input.isSpecial();
-			}
-		});
-
+		return listedMovements;
 	}
 
 	//#end Movements
@@ -198,9 +226,9 @@ public class DoorRegistry
 	 */
 	public static IDoorSound getSound(Class<? extends IDoorSound> clazz)
 	{
-		for (IDoorSound snd : sounds.values())
-			if (snd.getClass().equals(clazz))
-				return snd;
+		IDoorSound snd = soundClasses.get(clazz);
+		if (snd != null)
+			return snd;
 
 		throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", clazz.getSimpleName()));
 	}
@@ -217,6 +245,9 @@ public class DoorRegistry
 			throw new IllegalArgumentException(String.format("Door Sound %s already in registry", id));
 		sound.register();
 		sounds.put(id, sound);
+		soundIds.put(sound, id);
+		soundClasses = classIndex(sounds);
+		listedSounds = ImmutableMap.copyOf(sounds);
 	}
 
 	/**
@@ -241,25 +272,16 @@ public class DoorRegistry
 		if (Sound == null)
 			return null;
 
-		for (Entry<String, IDoorSound> entry : sounds.entrySet())
-		{
-			if (entry.getValue() == Sound)
-				return entry.getKey();
-		}
+		String id = soundIds.get(Sound);
+		if (id != null)
+			return id;
 
 		throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", Sound.getClass().getSimpleName()));
 	}
 
 	public static Map<String, IDoorSound> listSounds()
 	{
-		return Maps.filterValues(sounds, new Predicate<IDoorSound>()
-		{
-			@Override
-			public boolean apply(IDoorSound input)
-			{
-				return true;
-			}
-		});
+		return listedSounds;
 	}
 	//#end Sounds
 }
@@ -32,6 +32,7 @@ import net.malisis.doors.registry.Registries;
 import net.malisis.doors.renderer.font.MalisisFont;
 import net.malisis.doors.util.Utils;
 import net.malisis.doors.util.modmessage.ModMessageManager;
+import net.malisis.doors.util.syncer.Syncer;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
@@ -53,6 +54,7 @@ import net.minecraftforge.fml.common.discovery.ASMDataTable.ASMData;
 import net.minecraftforge.fml.common.discovery.asm.ModAnnotation;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLLoadCompleteEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -207,6 +209,9 @@ public class MalisisDoors implements IMalisisMod {
 		
 		ModMessageManager.register(this, DoorDescriptor.class);
 		
+		//redstone driven doors sync several fields per tick, send them together
+		Syncer.setBatched(true);
+		
 		Registers.init();
 	}
 	
@@ -235,6 +240,11 @@ public class MalisisDoors implements IMalisisMod {
 		Registries.processFMLStateEvent(event);
 	}
 	
+	@EventHandler
+	public void onIdMapping(FMLModIdMappingEvent event) {
+		Registries.updateBlockIds();
+	}
+	
 	
 	/**
 	 * Gui close event.<br>
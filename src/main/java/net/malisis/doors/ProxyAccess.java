@@ -24,9 +24,12 @@
 
 package net.malisis.doors;
 
-import java.util.WeakHashMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import lombok.experimental.Delegate;
+import net.malisis.doors.registry.AutoLoad;
 import net.malisis.doors.tileentity.VanishingTileEntity;
 import net.malisis.doors.MalisisDoors;
 import net.minecraft.block.state.IBlockState;
@@ -41,12 +44,38 @@ import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
+/**
+ * Gives access to the worlds as seen by the blocks copied inside {@link VanishingTileEntity vanishing frames}.<br>
+ * Proxies are created once per underlying world and reused until the world unloads. {@link #getBlockAccess(IBlockAccess)} returns a
+ * lightweight view that never constructs a {@link World} and should be used wherever a full world is not required.
+ *
+ * @author Ordinastie
+ */
+@AutoLoad
 public class ProxyAccess
 {
-	private static WeakHashMap<IBlockAccess, IBlockAccess> cache = new WeakHashMap<>();
+	private static ProxyAccess instance = new ProxyAccess();
+
+	/** {@link ProxyWorld} per {@link World}, removed when the world unloads. */
+	private static Map<World, World> worlds = Collections.synchronizedMap(new HashMap<>());
+	/** {@link ProxyBlockAccess} per {@link World}, removed when the world unloads. */
+	private static Map<World, ProxyBlockAccess> views = Collections.synchronizedMap(new HashMap<>());
 	private static boolean worldInstanciationFailed = false;
 
+	private ProxyAccess() {
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.getWorld());
+		views.remove(event.getWorld());
+	}
+
 	private interface IProxyAccess
 	{
 		public IBlockState getBlockState(BlockPos pos);
@@ -56,33 +85,66 @@ public class ProxyAccess
 		public boolean setBlockState(BlockPos pos, IBlockState state, int flag);
 	}
 
+	/**
+	 * Gets the proxy for the <code>world</code>. A full {@link World} proxy is returned if <code>world</code> is a {@link World}.
+	 *
+	 * @param world the world
+	 * @return the proxy
+	 */
 	public static IBlockAccess get(IBlockAccess world) {
+		if (world instanceof World) {
+			return getWorld((World) world);
+		}
+		return getBlockAccess(world);
+	}
+
+	/**
+	 * Gets the {@link World} proxy for the <code>world</code>. The proxy is created once and kept until the world unloads.<br>
+	 * Returns the original world if the proxy could not be instantiated.
+	 *
+	 * @param world the world
+	 * @return the proxy
+	 */
+	public static World getWorld(World world) {
 		if (world == null) {
 			return null;
 		}
-		
-		cache.clear();
-		IBlockAccess proxy = cache.get(world);
-		if (proxy == null) {
-			if (world instanceof World) {
-				if (worldInstanciationFailed) {
-					return world;
-				}
-				try {
-					proxy = new ProxyWorld((World) world);
-				}
-				catch (Exception e) {
-					MalisisDoors.log.error("[ProxyAccess] Proxy world instanciation failed :", e);
-					worldInstanciationFailed = true;
-					return world;
-				}
+		if (worldInstanciationFailed) {
+			return world;
+		}
+
+		return worlds.computeIfAbsent(world, w -> {
+			try {
+				return new ProxyWorld(w);
 			}
-			else {
-				proxy = new ProxyBlockAccess(world);
+			catch (Exception e) {
+				MalisisDoors.log.error("[ProxyAccess] Proxy world instanciation failed :", e);
+				worldInstanciationFailed = true;
+				return w;
 			}
-			cache.put(world, proxy);
+		});
+	}
+
+	/**
+	 * Gets a lightweight {@link IBlockAccess} proxy for the <code>world</code> that never constructs a {@link World}.<br>
+	 * Views on a {@link World} are kept until the world unloads. Views on other accesses, like the chunk caches used by the chunk builder
+	 * threads, are a single small object and are not cached to avoid keeping the chunks alive.
+	 *
+	 * @param world the world
+	 * @return the proxy
+	 */
+	public static IBlockAccess getBlockAccess(IBlockAccess world) {
+		if (world == null) {
+			return null;
 		}
-		return proxy;
+		if (world instanceof ProxyBlockAccess || world instanceof ProxyWorld) {
+			return world;
+		}
+		if (world instanceof World) {
+			return views.computeIfAbsent((World) world, ProxyBlockAccess::new);
+		}
+
+		return new ProxyBlockAccess(world);
 	}
 
 	public static VanishingTileEntity getVanishingTileEntity(IBlockAccess world, BlockPos pos) {
@@ -24,7 +24,6 @@
 
 package net.malisis.doors.asm.mixin.core;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -34,7 +33,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 
-import net.malisis.doors.util.Point;
 import net.malisis.doors.util.chunkcollision.ChunkCollision;
 import net.malisis.doors.util.chunkcollision.IChunkCollidable;
 import net.minecraft.block.Block;
@@ -110,17 +108,26 @@ public class MixinChunkCollision
 	@Mixin(World.class)
 	public static class MixinWorld
 	{
-		private Pair<Point, Point> infos = null;
+		private boolean hasInfos;
+		private double srcX, srcY, srcZ;
+		private double destX, destY, destZ;
 
 		//because rayTraceBlocks mutate the src of the raytrace while iterating, when need to cache the parameters first
+		//stored as primitives so that no object is allocated for each ray trace
 		@Inject(method = "rayTraceBlocks(Lnet/minecraft/util/math/Vec3d;Lnet/minecraft/util/math/Vec3d;ZZZ)Lnet/minecraft/util/math/RayTraceResult;",
 				at = @At(value = "HEAD"))
 		private void setInfos(Vec3d src, Vec3d dest, boolean stopOnLiquid, boolean ignoreBlockWithoutBoundingBox, boolean returnLastUncollidableBlock, CallbackInfoReturnable<RayTraceResult> cir)
 		{
-			if (src != null && dest != null)
-				infos = Pair.of(new Point(src), new Point(dest));
-			else
-				infos = null;
+			hasInfos = src != null && dest != null;
+			if (!hasInfos)
+				return;
+
+			srcX = src.x;
+			srcY = src.y;
+			srcZ = src.z;
+			destX = dest.x;
+			destY = dest.y;
+			destZ = dest.z;
 		}
 
 		//before each return, we check if our rayTrace (against IChunkCollidable) yeild a result closer to src, if so, use that result
@@ -129,11 +136,16 @@ public class MixinChunkCollision
 				cancellable = true)
 		private void onRayTraceBlocks(Vec3d src, Vec3d dest, boolean stopOnLiquid, boolean ignoreBlockWithoutBoundingBox, boolean returnLastUncollidableBlock, CallbackInfoReturnable<RayTraceResult> cir)
 		{
-			if (infos == null)
+			if (!hasInfos)
 				return;
 
 			RayTraceResult result = ChunkCollision.get().getRayTraceResult(	(World) (Object) this,
-																			infos,
+																			srcX,
+																			srcY,
+																			srcZ,
+																			destX,
+																			destY,
+																			destZ,
 																			cir.getReturnValue(),
 																			stopOnLiquid,
 																			ignoreBlockWithoutBoundingBox,
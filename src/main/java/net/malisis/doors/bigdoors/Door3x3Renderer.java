@@ -1,5 +1,6 @@
 package net.malisis.doors.bigdoors;
 
+import net.malisis.doors.movement.AnimationCache;
 import net.malisis.doors.renderer.MalisisRenderer;
 import net.malisis.doors.renderer.RenderParameters;
 import net.malisis.doors.renderer.RenderType;
@@ -15,6 +16,7 @@ public class Door3x3Renderer extends MalisisRenderer<Door3x3Tile>
 	private MalisisModel model;
 	private RenderParameters rp;
 	private AnimationRenderer ar = new AnimationRenderer();
+	private AnimationCache animationCache = new AnimationCache();
 
 	public Door3x3Renderer()
 	{
@@ -44,6 +46,7 @@ public class Door3x3Renderer extends MalisisRenderer<Door3x3Tile>
 		model = new MalisisModel();
 		model.addShape("left", doorLeft);
 		model.addShape("right", doorRight);
+		model.setPackedGeometry(true);
 		model.storeState();
 
 		rp = new RenderParameters();
@@ -69,7 +72,7 @@ public class Door3x3Renderer extends MalisisRenderer<Door3x3Tile>
 
 		if (tileEntity.getMovement() != null)
 		{
-			Animation<?>[] anims = tileEntity.getMovement().getAnimations(tileEntity, model, rp);
+			Animation<?>[] anims = animationCache.getAnimations(tileEntity, model, rp);
 			ar.animate(anims);
 		}
 
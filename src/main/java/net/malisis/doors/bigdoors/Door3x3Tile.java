@@ -30,9 +30,15 @@ public class Door3x3Tile extends DoorTileEntity
 
 	public Door3x3Tile()
 	{
+		this(false);
+	}
+
+	public Door3x3Tile(boolean metal)
+	{
+		//descriptors are interned by setDescriptor() and can't be modified afterwards
 		DoorDescriptor descriptor = new DoorDescriptor();
 		descriptor.setMovement(DoorRegistry.getMovement(Door3x3Movement.class));
-		descriptor.setSound(DoorRegistry.getSound(WoodenDoorSound.class));
+		descriptor.setSound(DoorRegistry.getSound(metal ? RustyDoorSound.class : WoodenDoorSound.class));
 		descriptor.setDoubleDoor(false);
 		descriptor.setOpeningTime(15);
 		setDescriptor(descriptor);
@@ -40,13 +46,6 @@ public class Door3x3Tile extends DoorTileEntity
 		frameState = Blocks.QUARTZ_BLOCK.getDefaultState();
 	}
 
-	public Door3x3Tile(boolean metal)
-	{
-		this();
-		if (metal)
-			getDescriptor().setSound(DoorRegistry.getSound(RustyDoorSound.class));
-	}
-
 	public IBlockState getFrameState()
 	{
 		return frameState;
@@ -137,6 +136,21 @@ public class Door3x3Tile extends DoorTileEntity
 		return tag;
 	}
 
+	@Override
+	protected NBTTagCompound writeUpdateTag(NBTTagCompound tag)
+	{
+		super.writeUpdateTag(tag);
+		MBlockState.toNBT(tag, frameState);
+		return tag;
+	}
+
+	@Override
+	protected void readUpdateTag(NBTTagCompound tag)
+	{
+		super.readUpdateTag(tag);
+		frameState = MoreObjects.firstNonNull(MBlockState.fromNBT(tag), Blocks.QUARTZ_BLOCK.getDefaultState());
+	}
+
 	@Override
 	public AxisAlignedBB getRenderBoundingBox()
 	{
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.block;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * {@link ComponentIndex} is an immutable index of {@link IComponent} by type for an {@link IComponentProvider}.<br>
+ * Each component is indexed under all its classes and interfaces, the first component added for a type wins.<br>
+ * The index is rebuilt when a component is added, so {@link #get(Class)} is a single map lookup.
+ *
+ * @author Ordinastie
+ */
+public class ComponentIndex
+{
+	/** Empty index. */
+	public static final ComponentIndex EMPTY = new ComponentIndex(ImmutableMap.of());
+
+	/** All the classes and interfaces of a component class. */
+	private static final ClassValue<Set<Class<?>>> types = new ClassValue<Set<Class<?>>>()
+	{
+		@Override
+		protected Set<Class<?>> computeValue(Class<?> clazz)
+		{
+			ImmutableSet.Builder<Class<?>> builder = ImmutableSet.builder();
+			for (TypeToken<?> token : TypeToken.of(clazz).getTypes())
+				builder.add(token.getRawType());
+			return builder.build();
+		}
+	};
+
+	private final ImmutableMap<Class<?>, IComponent> index;
+
+	private ComponentIndex(ImmutableMap<Class<?>, IComponent> index)
+	{
+		this.index = index;
+	}
+
+	/**
+	 * Gets the component of the specified type.
+	 *
+	 * @param <T> the generic type
+	 * @param type the type
+	 * @return the component, null if none
+	 */
+	public <T> T get(Class<T> type)
+	{
+		IComponent component = index.get(type);
+		return component != null ? type.cast(component) : null;
+	}
+
+	/**
+	 * Builds the index for the components.
+	 *
+	 * @param components the components
+	 * @return the component index
+	 */
+	public static ComponentIndex of(Iterable<? extends IComponent> components)
+	{
+		Map<Class<?>, IComponent> map = new LinkedHashMap<>();
+		for (IComponent component : components)
+			for (Class<?> type : types.get(component.getClass()))
+				map.putIfAbsent(type, component);
+
+		return map.isEmpty() ? EMPTY : new ComponentIndex(ImmutableMap.copyOf(map));
+	}
+}
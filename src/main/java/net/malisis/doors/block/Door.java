@@ -92,6 +92,7 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 
 	protected DoorDescriptor descriptor;
 	protected final List<IComponent> components = Lists.newArrayList();
+	protected ComponentIndex componentIndex = ComponentIndex.EMPTY;
 
 	public Door(DoorDescriptor desc)
 	{
@@ -128,6 +129,7 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 	public void addComponent(IComponent component)
 	{
 		components.add(component);
+		componentIndex = ComponentIndex.of(components);
 	}
 
 	@Override
@@ -136,6 +138,12 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 		return components;
 	}
 
+	@Override
+	public <T> T getComponent(Class<T> type)
+	{
+		return componentIndex.get(type);
+	}
+
 	@SideOnly(Side.CLIENT)
 	protected IIconProvider getIconProvider()
 	{
@@ -249,9 +257,15 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 			}
 			else
 			{
-				//handle redstone interactions
 				DoorTileEntity te = getDoor(world, pos);
-				if (te == null || te.getDescriptor() == null)
+				if (te == null)
+					return;
+
+				//neighbor may have been the double door
+				te.invalidateDoubleDoor();
+
+				//handle redstone interactions
+				if (te.getDescriptor() == null)
 					return;
 
 				if (te.getDescriptor().getRedstoneBehavior() == RedstoneBehavior.HAND_ONLY
@@ -368,7 +382,7 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 	@Override
 	public RayTraceResult collisionRayTrace(IBlockState state, World world, BlockPos pos, Vec3d src, Vec3d dest)
 	{
-		return new RaytraceBlock(world, src, dest, pos).trace();
+		return RaytraceBlock.trace(world, src, dest, pos);
 	}
 
 	//#end BoudingBox
@@ -92,6 +92,7 @@ public class FenceGate extends BlockFenceGate implements IComponentProvider, IRe
 	}
 
 	protected final List<IComponent> components = Lists.newArrayList();
+	protected ComponentIndex componentIndex = ComponentIndex.EMPTY;
 
 	public FenceGate(Type type)
 	{
@@ -121,6 +122,7 @@ public class FenceGate extends BlockFenceGate implements IComponentProvider, IRe
 	public void addComponent(IComponent component)
 	{
 		components.add(component);
+		componentIndex = ComponentIndex.of(components);
 	}
 
 	@Override
@@ -129,6 +131,12 @@ public class FenceGate extends BlockFenceGate implements IComponentProvider, IRe
 		return components;
 	}
 
+	@Override
+	public <T> T getComponent(Class<T> type)
+	{
+		return componentIndex.get(type);
+	}
+
 	@Override
 	public FenceGate setCreativeTab(CreativeTabs tab)
 	{
@@ -189,6 +197,7 @@ public class FenceGate extends BlockFenceGate implements IComponentProvider, IRe
 		if (te == null)
 			return;
 
+		te.invalidateDoubleDoor();
 		if (!world.isRemote) //server
 		{
 			boolean powered = world.isBlockPowered(pos);
@@ -114,7 +114,7 @@ public interface IBoundingBox
 	public default RayTraceResult collisionRayTrace(IBlockState state, World world, BlockPos pos, Vec3d src, Vec3d dest)
 	{
 		//TODO: remove RayTraceBlock entirely and call regular RayTrace on getRayTraceBoundingBox()
-		return new RaytraceBlock(world, src, dest, pos).trace();
+		return RaytraceBlock.trace(world, src, dest, pos);
 	}
 
 	/**
@@ -87,6 +87,7 @@ public class MalisisBlock extends Block implements IBoundingBox, IRegisterable<B
 	protected AxisAlignedBB boundingBox;
 	protected final List<IBlockComponent> blockComponents = Lists.newArrayList();
 	protected final List<IComponent> components = Lists.newArrayList();
+	protected ComponentIndex componentIndex = ComponentIndex.EMPTY;
 
 	protected MalisisBlock(Material material)
 	{
@@ -134,6 +135,12 @@ public class MalisisBlock extends Block implements IBoundingBox, IRegisterable<B
 		return Stream.concat(blockComponents.stream(), components.stream()).collect(Collectors.toList());
 	}
 
+	@Override
+	public <T> T getComponent(Class<T> type)
+	{
+		return componentIndex.get(type);
+	}
+
 	@Override
 	public void addComponent(IComponent component)
 	{
@@ -152,6 +159,7 @@ public class MalisisBlock extends Block implements IBoundingBox, IRegisterable<B
 		else
 			components.add(component);
 
+		componentIndex = ComponentIndex.of(getComponents());
 		component.onComponentAdded(this);
 
 		lightOpacity = getDefaultState().isOpaqueCube() ? 255 : 0;
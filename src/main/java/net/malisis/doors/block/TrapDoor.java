@@ -70,6 +70,7 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 {
 	private TrapDoorDescriptor descriptor;
 	protected final List<IComponent> components = Lists.newArrayList();
+	protected ComponentIndex componentIndex = ComponentIndex.EMPTY;
 
 	public TrapDoor(TrapDoorDescriptor desc)
 	{
@@ -109,6 +110,7 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 	public void addComponent(IComponent component)
 	{
 		components.add(component);
+		componentIndex = ComponentIndex.of(components);
 	}
 
 	@Override
@@ -117,6 +119,12 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 		return components;
 	}
 
+	@Override
+	public <T> T getComponent(Class<T> type)
+	{
+		return componentIndex.get(type);
+	}
+
 	@Override
 	public boolean onBlockActivated(World world, BlockPos pos, IBlockState state, EntityPlayer player, EnumHand hand, EnumFacing side, float hitX, float hitY, float hitZ)
 	{
@@ -199,7 +207,7 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 	@Override
 	public RayTraceResult collisionRayTrace(IBlockState blockState, World world, BlockPos pos, Vec3d start, Vec3d end)
 	{
-		return new RaytraceBlock(world, start, end, pos).trace();
+		return RaytraceBlock.trace(world, start, end, pos);
 	}
 
 	//#end BoudingBox
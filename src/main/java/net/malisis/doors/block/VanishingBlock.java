@@ -308,7 +308,7 @@ public class VanishingBlock extends MalisisBlock implements ITileEntityProvider
 		if (!shouldDefer(te))
 			return super.getCollisionBoundingBox(state, world, pos);
 		
-		return te.getCopiedState().getCollisionBoundingBox(ProxyAccess.get(world), pos);
+		return te.getCopiedState().getCollisionBoundingBox(ProxyAccess.getBlockAccess(world), pos);
 		
 	}
 	
@@ -322,7 +322,7 @@ public class VanishingBlock extends MalisisBlock implements ITileEntityProvider
 			return;
 		}
 		
-		te.getCopiedState().addCollisionBoxToList((World) ProxyAccess.get(world), pos, mask, list, collidingEntity, useActualState);
+		te.getCopiedState().addCollisionBoxToList(ProxyAccess.getWorld(world), pos, mask, list, collidingEntity, useActualState);
 	}
 	
 	@Override
@@ -333,7 +333,7 @@ public class VanishingBlock extends MalisisBlock implements ITileEntityProvider
 		if (!shouldDefer(te))
 			return super.getBoundingBox(state, world, pos);
 		
-		return te.getCopiedState().getBoundingBox(ProxyAccess.get(world), pos);
+		return te.getCopiedState().getBoundingBox(ProxyAccess.getBlockAccess(world), pos);
 		
 	}
 	
@@ -344,7 +344,7 @@ public class VanishingBlock extends MalisisBlock implements ITileEntityProvider
 		if (!shouldDefer(te))
 			return super.getSelectedBoundingBox(state, world, pos);
 		
-		return te.getCopiedState().getSelectedBoundingBox((World) ProxyAccess.get(world), pos);
+		return te.getCopiedState().getSelectedBoundingBox(ProxyAccess.getWorld(world), pos);
 	}
 	
 	@Override
@@ -354,7 +354,7 @@ public class VanishingBlock extends MalisisBlock implements ITileEntityProvider
 		if (!shouldDefer(te))
 			return super.collisionRayTrace(state, world, pos, src, dest);
 		
-		World proxy = (World) ProxyAccess.get(world);
+		World proxy = ProxyAccess.getWorld(world);
 		//prevent infinite recursion
 		if (proxy == world && te.getCopiedState().getBlock() instanceof IBoundingBox)
 			return super.collisionRayTrace(state, world, pos, src, dest);
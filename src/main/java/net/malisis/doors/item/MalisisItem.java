@@ -31,6 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.google.common.collect.Lists;
 
 import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.block.ComponentIndex;
 import net.malisis.doors.block.IComponent;
 import net.malisis.doors.block.IComponentProvider;
 import net.malisis.doors.block.IRegisterable;
@@ -52,6 +53,7 @@ import net.minecraft.item.Item;
 public class MalisisItem extends Item implements IComponentProvider, IRegisterable<Item>
 {
 	protected final List<IComponent> components = Lists.newArrayList();
+	protected ComponentIndex componentIndex = ComponentIndex.EMPTY;
 
 	@Override
 	public MalisisItem setName(String name)
@@ -65,6 +67,7 @@ public class MalisisItem extends Item implements IComponentProvider, IRegisterab
 	public void addComponent(IComponent component)
 	{
 		components.add(component);
+		componentIndex = ComponentIndex.of(components);
 	}
 
 	@Override
@@ -73,6 +76,12 @@ public class MalisisItem extends Item implements IComponentProvider, IRegisterab
 		return components;
 	}
 
+	@Override
+	public <T> T getComponent(Class<T> type)
+	{
+		return componentIndex.get(type);
+	}
+
 	public void setTexture(String textureName)
 	{
 		if (!StringUtils.isEmpty(textureName) && MalisisDoors.isClient())
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.movement;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import net.malisis.doors.renderer.RenderParameters;
+import net.malisis.doors.renderer.animation.Animation;
+import net.malisis.doors.renderer.model.MalisisModel;
+import net.malisis.doors.tileentity.DoorTileEntity;
+
+/**
+ * Caches the {@link Animation animations} built by the {@link IDoorMovement movements} so they are not rebuilt every frame.<br>
+ * Animations are stored per movement and per {@link IDoorMovement#getAnimationKey(DoorTileEntity) key}, and are only valid for the
+ * {@link MalisisModel} and {@link RenderParameters} they were built for, so each renderer holds its own cache.<br>
+ * Only the elapsed time changes between frames, which is handled by the {@link net.malisis.doors.renderer.animation.AnimationRenderer}.
+ *
+ * @author Ordinastie
+ */
+public class AnimationCache
+{
+	private final Map<MalisisModel, Map<IDoorMovement, TIntObjectHashMap<Animation<?>[]>>> cache = new IdentityHashMap<>();
+	private RenderParameters rp;
+
+	/**
+	 * Gets the {@link Animation animations} for the {@link DoorTileEntity}, building them if not already cached.
+	 *
+	 * @param tileEntity the tile entity
+	 * @param model the model
+	 * @param rp the rp
+	 * @return the animations
+	 */
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		IDoorMovement movement = tileEntity.getMovement();
+		int key = movement.getAnimationKey(tileEntity);
+		if (key == -1)
+			return movement.getAnimations(tileEntity, model, rp);
+
+		if (this.rp != rp)
+		{
+			clear();
+			this.rp = rp;
+		}
+
+		TIntObjectHashMap<Animation<?>[]> anims = cache.computeIfAbsent(model, m -> new IdentityHashMap<>())
+														.computeIfAbsent(movement, m -> new TIntObjectHashMap<>());
+		Animation<?>[] animations = anims.get(key);
+		if (animations == null)
+		{
+			animations = movement.getAnimations(tileEntity, model, rp);
+			anims.put(key, animations);
+		}
+		return animations;
+	}
+
+	/**
+	 * Clears this {@link AnimationCache}.
+	 */
+	public void clear()
+	{
+		cache.clear();
+	}
+}
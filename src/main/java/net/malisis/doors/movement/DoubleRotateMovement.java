@@ -105,6 +105,12 @@ public class DoubleRotateMovement implements IDoorMovement
 		return new Animation[] { animation };
 	}
 
+	@Override
+	public int getAnimationKey(DoorTileEntity tileEntity)
+	{
+		return IDoorMovement.animationKey(tileEntity, tileEntity.getState() == DoorState.OPENED ? 1 : 0);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
@@ -48,6 +48,24 @@ public class FenceGateMovement implements IDoorMovement
 		return null;
 	}
 
+	@Override
+	public int getAnimationKey(DoorTileEntity tileEntity)
+	{
+		DoorTileEntity doubleDoor = tileEntity.getDoubleDoor();
+		int extra = (tileEntity.getBlockMetadata() >> 1) & 1;
+		if (doubleDoor != null)
+			extra |= 2 | (isLeft(tileEntity, doubleDoor) ? 4 : 0);
+		return IDoorMovement.animationKey(tileEntity, extra);
+	}
+
+	private boolean isLeft(DoorTileEntity tileEntity, DoorTileEntity doubleDoor)
+	{
+		if (tileEntity.getDirection().getAxis() == Axis.X)
+			return tileEntity.getPos().getZ() < doubleDoor.getPos().getZ();
+		else
+			return tileEntity.getPos().getX() > doubleDoor.getPos().getX();
+	}
+
 	public Rotation getTransformation(DoorTileEntity tileEntity, boolean left)
 	{
 		boolean reversedOpen = ((tileEntity.getBlockMetadata() >> 1) & 1) == 1;
@@ -76,14 +94,7 @@ public class FenceGateMovement implements IDoorMovement
 	{
 		DoorTileEntity doubleDoor = tileEntity.getDoubleDoor();
 		if (doubleDoor != null)
-		{
-			boolean left = true;
-			if (tileEntity.getDirection().getAxis() == Axis.X)
-				left = tileEntity.getPos().getZ() < doubleDoor.getPos().getZ();
-			else
-				left = tileEntity.getPos().getX() > doubleDoor.getPos().getX();
-			return new Animation[] { new Animation<>(model, getTransformation(tileEntity, left)) };
-		}
+			return new Animation[] { new Animation<>(model, getTransformation(tileEntity, isLeft(tileEntity, doubleDoor))) };
 
 		return new Animation[] { new Animation<>(model.getShape("left"), getTransformation(tileEntity, true)),
 				new Animation<>(model.getShape("right"), getTransformation(tileEntity, false)) };
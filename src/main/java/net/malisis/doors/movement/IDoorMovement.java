@@ -24,6 +24,7 @@
 
 package net.malisis.doors.movement;
 
+import net.malisis.doors.DoorState;
 import net.malisis.doors.block.BoundingBoxType;
 import net.malisis.doors.renderer.RenderParameters;
 import net.malisis.doors.renderer.animation.Animation;
@@ -47,6 +48,19 @@ public interface IDoorMovement
 
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp);
 
+	/**
+	 * Gets the key identifying the configuration the {@link Animation animations} of the {@link DoorTileEntity} depend on.<br>
+	 * {@link AnimationCache} reuses the animations built for a key, so movements depending on anything else must override this method, or
+	 * return -1 to prevent caching.
+	 *
+	 * @param tileEntity the tile entity
+	 * @return the key
+	 */
+	public default int getAnimationKey(DoorTileEntity tileEntity)
+	{
+		return animationKey(tileEntity, 0);
+	}
+
 	public default boolean isSpecial()
 	{
 		return false;
@@ -58,6 +72,25 @@ public interface IDoorMovement
 				&& type == BoundingBoxType.SELECTION ? 2 : 1, Door.DOOR_WIDTH);
 	}
 
+	/**
+	 * Builds the animation key from hinge, direction, open/close direction and opening time of the {@link DoorTileEntity}.<br>
+	 * <i>extra</i> holds movement specific bits and is limited to 5 bits.
+	 *
+	 * @param tileEntity the tile entity
+	 * @param extra the extra
+	 * @return the key
+	 */
+	public static int animationKey(DoorTileEntity tileEntity, int extra)
+	{
+		boolean reversed = tileEntity.getState() == DoorState.CLOSING || tileEntity.getState() == DoorState.CLOSED;
+		int key = tileEntity.getDescriptor().getOpeningTime() & 0xFFFF;
+		key |= (tileEntity.isHingeLeft() ? 1 : 0) << 16;
+		key |= (reversed ? 1 : 0) << 17;
+		key |= (tileEntity.getDirection().getHorizontalIndex() & 3) << 18;
+		key |= (extra & 0x1F) << 20;
+		return key;
+	}
+
 	public static AxisAlignedBB getHalfBoundingBox()
 	{
 		return new AxisAlignedBB(0, 0, 0, 1, 1, Door.DOOR_WIDTH);
@@ -41,13 +41,6 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class SpinningAroundDoorMovement implements IDoorMovement
 {
-	private Rotation rotBot = new Rotation(720).aroundAxis(0, 0, 1);
-	private Rotation rotTop = new Rotation(720).aroundAxis(0, 0, 1);
-	private Rotation rotBot2 = new Rotation(-720).aroundAxis(0, 0, 1);
-	private Rotation rotTop2 = new Rotation(-720).aroundAxis(0, 0, 1).offset(0, 1, 0);
-	private Scale scaleBot = new Scale(0, 0, 0);
-	private Scale scaleTop = new Scale(0, 0, 0).offset(0, 1, 0);
-
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
 	{
@@ -65,6 +58,13 @@ public class SpinningAroundDoorMovement implements IDoorMovement
 		int ot = tileEntity.getDescriptor().getOpeningTime();
 		float offsetX = doubleDoor ? (tileEntity.isHingeLeft() ? -0.5F : 0.5F) : 0;
 
+		Rotation rotBot = new Rotation(720).aroundAxis(0, 0, 1);
+		Rotation rotTop = new Rotation(720).aroundAxis(0, 0, 1);
+		Rotation rotBot2 = new Rotation(-720).aroundAxis(0, 0, 1);
+		Rotation rotTop2 = new Rotation(-720).aroundAxis(0, 0, 1).offset(0, 1, 0);
+		Scale scaleBot = new Scale(0, 0, 0);
+		Scale scaleTop = new Scale(0, 0, 0).offset(0, 1, 0);
+
 		rotBot.offset(offsetX, 0.5F, 0);
 		rotBot.reversed(closed);
 		rotBot.forTicks(ot);
@@ -91,6 +91,12 @@ public class SpinningAroundDoorMovement implements IDoorMovement
 		return new Animation[] { new Animation<>(model.getShape("bottom"), bot), new Animation<>(model.getShape("top"), top) };
 	}
 
+	@Override
+	public int getAnimationKey(DoorTileEntity tileEntity)
+	{
+		return IDoorMovement.animationKey(tileEntity, tileEntity.getDoubleDoor() != null ? 1 : 0);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
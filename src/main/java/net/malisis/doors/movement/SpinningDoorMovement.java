@@ -41,11 +41,6 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class SpinningDoorMovement implements IDoorMovement
 {
-	private Rotation rotBot = new Rotation(0).aroundAxis(0, 0, 1);
-	private Rotation rotTop = new Rotation(0).aroundAxis(0, 0, 1).offset(0, 1, 0);
-	private Scale scaleBot = new Scale(0, 0, 0);
-	private Scale scaleTop = new Scale(0, 0, 0).offset(0, 1, 0);
-
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
 	{
@@ -62,6 +57,11 @@ public class SpinningDoorMovement implements IDoorMovement
 		boolean closed = tileEntity.getState() == DoorState.CLOSING || tileEntity.getState() == DoorState.CLOSED;
 		int ot = tileEntity.getDescriptor().getOpeningTime();
 
+		Rotation rotBot = new Rotation(0).aroundAxis(0, 0, 1);
+		Rotation rotTop = new Rotation(0).aroundAxis(0, 0, 1).offset(0, 1, 0);
+		Scale scaleBot = new Scale(0, 0, 0);
+		Scale scaleTop = new Scale(0, 0, 0).offset(0, 1, 0);
+
 		rotBot.from(angle);
 		rotBot.reversed(closed);
 		rotBot.forTicks(ot);
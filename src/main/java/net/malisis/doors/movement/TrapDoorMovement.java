@@ -80,6 +80,12 @@ public class TrapDoorMovement implements IDoorMovement
 		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
 	}
 
+	@Override
+	public int getAnimationKey(DoorTileEntity tileEntity)
+	{
+		return IDoorMovement.animationKey(tileEntity, ((TrapDoorTileEntity) tileEntity).isTop() ? 1 : 0);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
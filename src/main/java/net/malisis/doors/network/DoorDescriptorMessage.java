@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.network;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import io.netty.buffer.ByteBuf;
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorDescriptorTable;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.network.DoorDescriptorMessage.Packet;
+import net.malisis.doors.registry.AutoLoad;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Message to send the {@link DoorDescriptor DoorDescriptors} ids assigned by the {@link DoorDescriptorTable} to the clients.
+ *
+ * @author Ordinastie
+ *
+ */
+@AutoLoad(true)
+public class DoorDescriptorMessage implements IMalisisMessageHandler<Packet, IMessage>
+{
+	public DoorDescriptorMessage()
+	{
+		MalisisDoors.network.registerMessage(this, DoorDescriptorMessage.Packet.class, Side.CLIENT);
+	}
+
+	@Override
+	public void process(Packet message, MessageContext ctx)
+	{
+		if (message.reset)
+			DoorDescriptorTable.clearReceived();
+		for (int i = 0; i < message.descriptors.size(); i++)
+			DoorDescriptorTable.receive(message.firstId + i, message.descriptors.get(i));
+	}
+
+	/**
+	 * Sends all the known {@link DoorDescriptor DoorDescriptors} to a player that just logged in.
+	 *
+	 * @param player the player
+	 * @param descriptors the descriptors
+	 */
+	public static void sendAll(EntityPlayerMP player, List<DoorDescriptor> descriptors)
+	{
+		MalisisDoors.network.sendTo(new Packet(true, 0, descriptors), player);
+	}
+
+	/**
+	 * Sends a newly assigned {@link DoorDescriptor} to all the players.
+	 *
+	 * @param id the id
+	 * @param descriptor the descriptor
+	 */
+	public static void sendNew(int id, DoorDescriptor descriptor)
+	{
+		MalisisDoors.network.sendToAll(new Packet(false, id, Lists.newArrayList(descriptor)));
+	}
+
+	public static class Packet implements IMessage
+	{
+		private boolean reset;
+		private int firstId;
+		private List<DoorDescriptor> descriptors = Lists.newArrayList();
+
+		public Packet()
+		{}
+
+		public Packet(boolean reset, int firstId, List<DoorDescriptor> descriptors)
+		{
+			this.reset = reset;
+			this.firstId = firstId;
+			this.descriptors = descriptors;
+		}
+
+		@Override
+		public void fromBytes(ByteBuf buf)
+		{
+			reset = buf.readBoolean();
+			firstId = buf.readInt();
+			int size = buf.readInt();
+			for (int i = 0; i < size; i++)
+				descriptors.add(new DoorDescriptor(ByteBufUtils.readTag(buf)));
+		}
+
+		@Override
+		public void toBytes(ByteBuf buf)
+		{
+			buf.writeBoolean(reset);
+			buf.writeInt(firstId);
+			buf.writeInt(descriptors.size());
+			for (DoorDescriptor desc : descriptors)
+			{
+				NBTTagCompound nbt = new NBTTagCompound();
+				desc.writeNBT(nbt);
+				ByteBufUtils.writeTag(buf, nbt);
+			}
+		}
+	}
+}
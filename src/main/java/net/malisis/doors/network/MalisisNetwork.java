@@ -24,12 +24,18 @@
 
 package net.malisis.doors.network;
 
+import java.util.Collection;
+
+import io.netty.buffer.ByteBuf;
 import net.malisis.doors.IMalisisMod;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.inventory.message.OpenInventoryMessage;
 import net.malisis.doors.registry.AutoLoad;
 import net.malisis.doors.util.EntityUtils;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
@@ -83,7 +89,28 @@ public class MalisisNetwork extends SimpleNetworkWrapper
 	 */
 	public void sendToPlayersWatchingChunk(IMessage message, Chunk chunk)
 	{
-		EntityUtils.getPlayersWatchingChunk(chunk).forEach(p -> sendTo(message, p));
+		sendTo(message, EntityUtils.getPlayersWatchingChunk(chunk));
+	}
+
+	/**
+	 * Send the {@link IMessage} to all the specified players.<br>
+	 * The message is only serialized once, and the resulting payload is shared by the packets sent to each player.
+	 *
+	 * @param message the message
+	 * @param players the players
+	 */
+	public void sendTo(IMessage message, Collection<EntityPlayerMP> players)
+	{
+		if (players.isEmpty())
+			return;
+
+		FMLProxyPacket packet = (FMLProxyPacket) getPacketFrom(message);
+		ByteBuf payload = packet.payload();
+		for (EntityPlayerMP player : players)
+		{
+			//each packet needs its own reader index as writing the payload consumes it
+			player.connection.sendPacket(new FMLProxyPacket(new PacketBuffer(payload.duplicate()), packet.channel()));
+		}
 	}
 
 	/**
@@ -28,6 +28,7 @@ import static net.malisis.doors.registry.Registries.clientRegistry;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -83,6 +84,10 @@ public class ClientRegistry
 	Map<Class<? extends MalisisRenderer<?>>, MalisisRenderer<?>> registeredRenderers = Maps.newHashMap();
 	/** List of {@link BlockRendererOverride}. */
 	List<BlockRendererOverride> blockRendererOverrides = Lists.newArrayList();
+	/** Filters for the {@link IBlockState states} the {@link BlockRendererOverride overrides} apply to. */
+	List<Predicate<IBlockState>> blockRendererOverrideFilters = Lists.newArrayList();
+	/** Whether a {@link BlockRendererOverride} may apply to any {@link IBlockState}. */
+	boolean overrideAllStates = false;
 	/** List of {@link ItemRendererOverride}. */
 	List<ItemRendererOverride> itemRendererOverrides = Lists.newArrayList();
 
@@ -93,7 +98,7 @@ public class ClientRegistry
 			Block.REGISTRY.forEach(this::registerRenderer);
 			Item.REGISTRY.forEach(this::registerRenderer);
 		});
-		MalisisRegistry.onRenderBlock(this::renderBlock, CallbackOption.of());
+		MalisisRegistry.onRenderBlock(this::renderBlock, this::isRendered, CallbackOption.of());
 	}
 
 	/**
@@ -225,6 +230,38 @@ public class ClientRegistry
 		return renderer;
 	}
 
+	/**
+	 * Checks whether the {@link IBlockState} may be rendered by a registered {@link IBlockRenderer} or {@link BlockRendererOverride}.
+	 *
+	 * @param state the state
+	 * @return true, if rendered
+	 */
+	private boolean isRendered(IBlockState state)
+	{
+		if (overrideAllStates || blockRenderers.containsKey(state.getBlock()))
+			return true;
+		for (Predicate<IBlockState> filter : blockRendererOverrideFilters)
+			if (filter.test(state))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Adds a {@link BlockRendererOverride} and updates the {@link IBlockState states} the render block hook needs to process.
+	 *
+	 * @param override the override
+	 * @param filter the filter, null if the override may apply to any state
+	 */
+	void addBlockRendererOverride(BlockRendererOverride override, Predicate<IBlockState> filter)
+	{
+		blockRendererOverrides.add(override);
+		if (filter != null)
+			blockRendererOverrideFilters.add(filter);
+		else
+			overrideAllStates = true;
+		Registries.renderBlockRegistry.updateInterest();
+	}
+
 	/**
 	 * Renders a {@link IBlockState} with a registered {@link IBlockRenderer}.
 	 *
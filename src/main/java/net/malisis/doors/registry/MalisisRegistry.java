@@ -32,6 +32,8 @@ import static net.malisis.doors.registry.Registries.preSetBlockRegistry;
 import static net.malisis.doors.registry.Registries.renderBlockRegistry;
 import static net.malisis.doors.registry.Registries.textureStitchedRegtistry;
 
+import java.util.function.Predicate;
+
 import com.google.common.collect.ImmutableMap;
 
 import net.malisis.doors.MalisisDoors;
@@ -52,6 +54,7 @@ import net.malisis.doors.renderer.model.EmptyModelLoader;
 import net.malisis.doors.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.util.clientnotif.ClientNotificationManager;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.Item;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -170,6 +173,20 @@ public class MalisisRegistry
 		renderBlockRegistry.registerCallback(callback, option);
 	}
 
+	/**
+	 * Registers a {@link IRenderBlockCallback} with the specified {@link CallbackOption} to be called when rendering blocks, only for the
+	 * {@link IBlockState states} matching the <i>filter</i>.
+	 *
+	 * @param callback the callback
+	 * @param filter the filter
+	 * @param option the option
+	 */
+	@SideOnly(Side.CLIENT)
+	public static void onRenderBlock(IRenderBlockCallback callback, Predicate<IBlockState> filter, CallbackOption<IRenderBlockCallbackPredicate> option)
+	{
+		renderBlockRegistry.registerCallback(callback, filter, option);
+	}
+
 	/**
 	 * Registers a {@link ISetBlockCallback} with the specified {@link CallbackOption} to be called after a {@link Block} is placed in the
 	 * world.
@@ -182,6 +199,19 @@ public class MalisisRegistry
 		preSetBlockRegistry.registerCallback(callback, option);
 	}
 
+	/**
+	 * Registers a {@link ISetBlockCallback} with the specified {@link CallbackOption} to be called after a {@link Block} is placed in the
+	 * world, only when the old or the new {@link Block} matches the <i>filter</i>.
+	 *
+	 * @param callback the callback
+	 * @param filter the filter
+	 * @param option the option
+	 */
+	public static void onPreSetBlock(ISetBlockCallback callback, Predicate<Block> filter, CallbackOption<ISetBlockCallbackPredicate> option)
+	{
+		preSetBlockRegistry.registerCallback(callback, filter, option);
+	}
+
 	/**
 	 * Registers a {@link ISetBlockCallback} with the specified {@link CallbackOption} to be called before a {@link Block} is placed in the
 	 * world.
@@ -194,6 +224,19 @@ public class MalisisRegistry
 		postSetBlockRegistry.registerCallback(callback, option);
 	}
 
+	/**
+	 * Registers a {@link ISetBlockCallback} with the specified {@link CallbackOption} to be called before a {@link Block} is placed in the
+	 * world, only when the old or the new {@link Block} matches the <i>filter</i>.
+	 *
+	 * @param callback the callback
+	 * @param filter the filter
+	 * @param option the option
+	 */
+	public static void onPostSetBlock(ISetBlockCallback callback, Predicate<Block> filter, CallbackOption<ISetBlockCallbackPredicate> option)
+	{
+		postSetBlockRegistry.registerCallback(callback, filter, option);
+	}
+
 	/**
 	 * Registers a {@link IBlockRenderer} for the {@link Block}, and its {@link Item} if any.
 	 *
@@ -204,6 +247,7 @@ public class MalisisRegistry
 	public static void registerBlockRenderer(Block block, IBlockRenderer renderer)
 	{
 		clientRegistry.blockRenderers.put(checkNotNull(block), checkNotNull(renderer));
+		renderBlockRegistry.updateInterest();
 		Item item = Item.getItemFromBlock(block);
 		if (item != null)
 			clientRegistry.itemRenderers.put(item, renderer);
@@ -243,10 +287,28 @@ public class MalisisRegistry
 		clientRegistry.renderWorldLastRenderers.remove(renderer);
 	}
 
+	/**
+	 * Registers a {@link BlockRendererOverride} that may apply to any {@link IBlockState}.<br>
+	 * This disables the fast path of the render block hook.
+	 *
+	 * @param override the override
+	 */
 	@SideOnly(Side.CLIENT)
 	public static void registerBlockRendererOverride(BlockRendererOverride override)
 	{
-		clientRegistry.blockRendererOverrides.add(checkNotNull(override));
+		registerBlockRendererOverride(override, null);
+	}
+
+	/**
+	 * Registers a {@link BlockRendererOverride} that only applies to the {@link IBlockState states} matching the <i>filter</i>.
+	 *
+	 * @param override the override
+	 * @param filter the filter, null if the override may apply to any state
+	 */
+	@SideOnly(Side.CLIENT)
+	public static void registerBlockRendererOverride(BlockRendererOverride override, Predicate<IBlockState> filter)
+	{
+		clientRegistry.addBlockRendererOverride(checkNotNull(override), filter);
 	}
 
 	@SideOnly(Side.CLIENT)
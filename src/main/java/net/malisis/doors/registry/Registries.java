@@ -24,8 +24,10 @@
 
 package net.malisis.doors.registry;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.StreamSupport;
 
+import net.malisis.doors.MalisisCommand;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.block.IComponentProvider;
 import net.malisis.doors.block.IRegisterComponent;
@@ -35,6 +37,7 @@ import net.malisis.doors.registry.SetBlockCallbackRegistry.ISetBlockCallback;
 import net.malisis.doors.registry.TextureStitchedRegistry.ITextureStitchedCallback;
 import net.malisis.doors.renderer.IItemRenderer;
 import net.malisis.doors.util.callback.CallbackResult;
+import net.malisis.doors.util.clientnotif.ClientNotificationManager;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.BlockModelShapes;
@@ -70,6 +73,15 @@ public class Registries
 	static SetBlockCallbackRegistry preSetBlockRegistry = new SetBlockCallbackRegistry();
 	static SetBlockCallbackRegistry postSetBlockRegistry = new SetBlockCallbackRegistry();
 
+	/** Number of set block hooks that processed the callbacks. Incremented from the client and server threads. */
+	private static LongAdder setBlockHits = new LongAdder();
+	/** Number of set block hooks that skipped the callbacks. Incremented from the client and server threads. */
+	private static LongAdder setBlockSkips = new LongAdder();
+	/** Number of render block hooks that processed the callbacks. Incremented from the chunk builder threads. */
+	private static LongAdder renderBlockHits = new LongAdder();
+	/** Number of render block hooks that skipped the callbacks. Incremented from the chunk builder threads. */
+	private static LongAdder renderBlockSkips = new LongAdder();
+
 	static
 	{
 		//Calls IRegisterComponent.register for all the IBlockComponent that implement the interface.
@@ -82,6 +94,14 @@ public class Registries
 																		.filter(IRegisterComponent.class::isInstance)
 																		.map(IRegisterComponent.class::cast)
 																		.forEach(comp -> comp.register(p))));
+		//Computes which blocks the set block callbacks are interested in, once all the components are registered
+		MalisisRegistry.onPostInit(event -> {
+			preSetBlockRegistry.buildInterest();
+			postSetBlockRegistry.buildInterest();
+			renderBlockRegistry.buildInterest();
+		});
+		MalisisCommand.registerDebug("setblock", Registries::debugSetBlock);
+		MalisisCommand.registerDebug("renderblock", Registries::debugRenderBlock);
 		if (MalisisDoors.isClient())
 			clientRegistry = new ClientRegistry();
 	}
@@ -96,6 +116,18 @@ public class Registries
 		modEventRegistry.processCallbacks(event);
 	}
 
+	/**
+	 * Updates the caches relying on {@link Block} ids.<br>
+	 * Called when the ids are remapped.
+	 */
+	public static void updateBlockIds()
+	{
+		preSetBlockRegistry.updateInterest();
+		postSetBlockRegistry.updateInterest();
+		renderBlockRegistry.updateInterest();
+		ClientNotificationManager.updateIds();
+	}
+
 	/**
 	 * Processes {@link ITextureStitchedCallback} registered.
 	 *
@@ -120,10 +152,25 @@ public class Registries
 	@SideOnly(Side.CLIENT)
 	public static CallbackResult<Boolean> processRenderBlockCallbacks(BufferBuilder buffer, IBlockAccess world, BlockPos pos, IBlockState state)
 	{
+		if (!renderBlockRegistry.isInterested(state))
+		{
+			renderBlockSkips.increment();
+			return CallbackResult.noResult();
+		}
+
+		renderBlockHits.increment();
 		//warning mutable BlockPos received
 		return renderBlockRegistry.processCallbacks(buffer, world, pos, state);
 	}
 
+	/**
+	 * Displays the number of render block hooks that processed the callbacks versus the ones that were skipped.
+	 */
+	private static void debugRenderBlock()
+	{
+		MalisisDoors.message("Render block hooks : %s processed, %s skipped", renderBlockHits.sum(), renderBlockSkips.sum());
+	}
+
 	/**
 	 * Processes {@link ISetBlockCallback ISetBlockCallbacks}.<br>
 	 * Called by ASM from {@link Chunk#setBlockState(BlockPos, IBlockState)}.
@@ -136,6 +183,13 @@ public class Registries
 	 */
 	public static CallbackResult<Void> processPreSetBlock(Chunk chunk, BlockPos pos, IBlockState oldState, IBlockState newState)
 	{
+		if (!preSetBlockRegistry.isInterested(oldState, newState))
+		{
+			setBlockSkips.increment();
+			return CallbackResult.noResult();
+		}
+
+		setBlockHits.increment();
 		return preSetBlockRegistry.processCallbacks(chunk, pos, oldState, newState);
 	}
 
@@ -150,9 +204,24 @@ public class Registries
 	 */
 	public static void processPostSetBlock(Chunk chunk, BlockPos pos, IBlockState oldState, IBlockState newState)
 	{
+		if (!postSetBlockRegistry.isInterested(oldState, newState))
+		{
+			setBlockSkips.increment();
+			return;
+		}
+
+		setBlockHits.increment();
 		postSetBlockRegistry.processCallbacks(chunk, pos, oldState, newState);
 	}
 
+	/**
+	 * Displays the number of set block hooks that processed the callbacks versus the ones that were skipped.
+	 */
+	private static void debugSetBlock()
+	{
+		MalisisDoors.message("Set block hooks : %s processed, %s skipped", setBlockHits.sum(), setBlockSkips.sum());
+	}
+
 	/**
 	 * Renders the {@link ItemStack} with a registered {@link IItemRenderer}.<br>
 	 * Called via ASM from {@link RenderItem#renderModel}.
@@ -24,12 +24,20 @@
 
 package net.malisis.doors.registry;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Lists;
+
 import net.malisis.doors.registry.RenderBlockRegistry.IRenderBlockCallback;
 import net.malisis.doors.registry.RenderBlockRegistry.IRenderBlockCallbackPredicate;
 import net.malisis.doors.util.callback.CallbackRegistry;
 import net.malisis.doors.util.callback.CallbackResult;
 import net.malisis.doors.util.callback.ICallback;
+import net.malisis.doors.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.util.callback.ICallback.ICallbackPredicate;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.util.math.BlockPos;
@@ -41,6 +49,86 @@ import net.minecraft.world.IBlockAccess;
  */
 public class RenderBlockRegistry extends CallbackRegistry<IRenderBlockCallback, IRenderBlockCallbackPredicate, Boolean>
 {
+	/** Filters for the {@link IBlockState states} the registered callbacks are interested in. */
+	private List<Predicate<IBlockState>> filters = Lists.newArrayList();
+	/** Whether a callback was registered without filter, and needs to be called for every state. */
+	private boolean allStates = false;
+	/** State ids the registered callbacks are interested in. Null until {@link #buildInterest()} is called. */
+	private volatile BitSet interest;
+
+	/**
+	 * Registers a {@link IRenderBlockCallback} interested in every {@link IBlockState}.<br>
+	 * This disables the fast path of the registry.
+	 *
+	 * @param callback the callback
+	 * @param option the option
+	 */
+	@Override
+	public void registerCallback(IRenderBlockCallback callback, CallbackOption<IRenderBlockCallbackPredicate> option)
+	{
+		allStates = true;
+		super.registerCallback(callback, option);
+	}
+
+	/**
+	 * Registers a {@link IRenderBlockCallback} only interested in the {@link IBlockState states} matching the filter.
+	 *
+	 * @param callback the callback
+	 * @param filter the filter
+	 * @param option the option
+	 */
+	public void registerCallback(IRenderBlockCallback callback, Predicate<IBlockState> filter, CallbackOption<IRenderBlockCallbackPredicate> option)
+	{
+		filters.add(filter);
+		super.registerCallback(callback, option);
+		updateInterest();
+	}
+
+	/**
+	 * Computes the ids of the {@link IBlockState states} matching the registered filters.<br>
+	 * Called once all the blocks and renderers are registered.
+	 */
+	public void buildInterest()
+	{
+		BitSet set = new BitSet();
+		for (Block block : Block.REGISTRY)
+		{
+			for (IBlockState state : block.getBlockState().getValidStates())
+			{
+				if (filters.stream().anyMatch(f -> f.test(state)))
+					set.set(Block.getStateId(state));
+			}
+		}
+		interest = set;
+	}
+
+	/**
+	 * Recomputes the {@link IBlockState} ids the callbacks are interested in, if they were already computed.<br>
+	 * Called when the ids are remapped or when the filters depend on something that changed.
+	 */
+	public void updateInterest()
+	{
+		if (interest != null)
+			buildInterest();
+	}
+
+	/**
+	 * Checks whether the registered callbacks need to be processed when rendering the {@link IBlockState}.<br>
+	 * States sharing their id with a matching state (same block and metadata) are processed as well.
+	 *
+	 * @param state the state
+	 * @return true, if the callbacks should be processed
+	 */
+	public boolean isInterested(IBlockState state)
+	{
+		if (callbacks.size() == 0)
+			return false;
+		BitSet set = interest;
+		if (allStates || set == null)
+			return true;
+		return set.get(Block.getStateId(state));
+	}
+
 	/**
 	 * Specialized {@link ICallback} called when a block is rendered.
 	 */
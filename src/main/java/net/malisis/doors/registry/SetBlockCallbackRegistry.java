@@ -24,12 +24,20 @@
 
 package net.malisis.doors.registry;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Lists;
+
 import net.malisis.doors.registry.SetBlockCallbackRegistry.ISetBlockCallback;
 import net.malisis.doors.registry.SetBlockCallbackRegistry.ISetBlockCallbackPredicate;
 import net.malisis.doors.util.callback.CallbackRegistry;
 import net.malisis.doors.util.callback.CallbackResult;
 import net.malisis.doors.util.callback.ICallback;
+import net.malisis.doors.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.util.callback.ICallback.ICallbackPredicate;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
@@ -40,6 +48,84 @@ import net.minecraft.world.chunk.Chunk;
  */
 public class SetBlockCallbackRegistry extends CallbackRegistry<ISetBlockCallback, ISetBlockCallbackPredicate, Void>
 {
+	/** Filters for the {@link Block blocks} the registered callbacks are interested in. */
+	private List<Predicate<Block>> filters = Lists.newArrayList();
+	/** Whether a callback was registered without filter, and needs to be called for every block. */
+	private boolean allBlocks = false;
+	/** Block ids the registered callbacks are interested in. Null until {@link #buildInterest()} is called. */
+	private volatile BitSet interest;
+
+	/**
+	 * Registers a {@link ISetBlockCallback} interested in every {@link Block}.<br>
+	 * This disables the fast path of the registry.
+	 *
+	 * @param callback the callback
+	 * @param option the option
+	 */
+	@Override
+	public void registerCallback(ISetBlockCallback callback, CallbackOption<ISetBlockCallbackPredicate> option)
+	{
+		allBlocks = true;
+		super.registerCallback(callback, option);
+	}
+
+	/**
+	 * Registers a {@link ISetBlockCallback} only interested in the {@link Block blocks} matching the filter.<br>
+	 * The callback is called when either the old or the new block match the filter.
+	 *
+	 * @param callback the callback
+	 * @param filter the filter
+	 * @param option the option
+	 */
+	public void registerCallback(ISetBlockCallback callback, Predicate<Block> filter, CallbackOption<ISetBlockCallbackPredicate> option)
+	{
+		filters.add(filter);
+		super.registerCallback(callback, option);
+		updateInterest();
+	}
+
+	/**
+	 * Computes the ids of the {@link Block blocks} matching the registered filters.<br>
+	 * Called once all the blocks are registered.
+	 */
+	public void buildInterest()
+	{
+		BitSet set = new BitSet();
+		for (Block block : Block.REGISTRY)
+		{
+			if (filters.stream().anyMatch(f -> f.test(block)))
+				set.set(Block.getIdFromBlock(block));
+		}
+		interest = set;
+	}
+
+	/**
+	 * Recomputes the {@link Block} ids the callbacks are interested in, if they were already computed.<br>
+	 * Called when the ids are remapped.
+	 */
+	public void updateInterest()
+	{
+		if (interest != null)
+			buildInterest();
+	}
+
+	/**
+	 * Checks whether the registered callbacks need to be processed for the change from <i>oldState</i> to <i>newState</i>.
+	 *
+	 * @param oldState the old state
+	 * @param newState the new state
+	 * @return true, if the callbacks should be processed
+	 */
+	public boolean isInterested(IBlockState oldState, IBlockState newState)
+	{
+		if (callbacks.size() == 0)
+			return false;
+		BitSet set = interest;
+		if (allBlocks || set == null)
+			return true;
+		return set.get(Block.getIdFromBlock(oldState.getBlock())) || set.get(Block.getIdFromBlock(newState.getBlock()));
+	}
+
 	public static interface ISetBlockCallback extends ICallback<Void>
 	{
 		@Override
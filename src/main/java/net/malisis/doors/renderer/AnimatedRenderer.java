@@ -62,7 +62,9 @@ public class AnimatedRenderer extends MalisisRenderer<TileEntity>
 	static
 	{
 		//check renderable to be removed when a block changes.
-		MalisisRegistry.onPostSetBlock(AnimatedRenderer::removeRenderable, CallbackOption.of());
+		MalisisRegistry.onPostSetBlock(AnimatedRenderer::removeRenderable,
+				block -> IComponent.getComponent(AnimatedModelComponent.class, block) != null,
+				CallbackOption.of());
 	}
 
 	/** Current {@link IAnimatedRenderable} being rendered. */
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.renderer;
+
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.vertex.VertexFormat;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * {@link BakedGeometry} holds prebuilt vertex data, relative to the block position, for a static render.<br>
+ * The vertexes are split in sections that can be given their own brightness when drawn, so the lightmap is not part of the baked data.
+ *
+ * @author Ordinastie
+ */
+public class BakedGeometry
+{
+	/** Vertex format of the data. */
+	private final VertexFormat vertexFormat;
+	/** Vertex data relative to the block. */
+	private final int[] data;
+	/** Copy of the data offset to the current position and brightness, uploaded to the buffer. */
+	private final int[] upload;
+	/** Index of the first vertex of each section. */
+	private final int[] sections;
+	/** Index of the brightness inside the data of a vertex, -1 if the format has none. */
+	private final int brightnessIndex;
+
+	public BakedGeometry(VertexFormat vertexFormat, int[] data, int[] sections)
+	{
+		this.vertexFormat = vertexFormat;
+		this.data = data;
+		this.upload = new int[data.length];
+		this.sections = sections;
+		this.brightnessIndex = vertexFormat.hasUvOffset(1) ? vertexFormat.getUvOffsetById(1) / 4 : -1;
+	}
+
+	public VertexFormat getVertexFormat()
+	{
+		return vertexFormat;
+	}
+
+	/**
+	 * Gets the number of vertexes.
+	 *
+	 * @return the vertex count
+	 */
+	public int getVertexCount()
+	{
+		return data.length / vertexFormat.getIntegerSize();
+	}
+
+	/**
+	 * Adds the vertex data to the {@link BufferBuilder} in a single call.<br>
+	 * The vertexes of each section get the brightness at the same index, if any.
+	 *
+	 * @param buffer the buffer
+	 * @param offset the position offset
+	 * @param brightness the brightness of each section
+	 */
+	public void draw(BufferBuilder buffer, Vec3d offset, int[] brightness)
+	{
+		if (data.length == 0)
+			return;
+
+		System.arraycopy(data, 0, upload, 0, data.length);
+
+		int size = vertexFormat.getIntegerSize();
+		int vertexCount = data.length / size;
+		int section = 0;
+		int light = 0;
+		for (int v = 0; v < vertexCount; v++)
+		{
+			int index = v * size;
+			if (offset != null)
+			{
+				upload[index] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(data[index]) + offset.x));
+				upload[index + 1] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(data[index + 1]) + offset.y));
+				upload[index + 2] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(data[index + 2]) + offset.z));
+			}
+
+			if (brightnessIndex == -1 || brightness == null)
+				continue;
+
+			while (section < sections.length && sections[section] <= v)
+				light = brightness[Math.min(section++, brightness.length - 1)];
+			upload[index + brightnessIndex] = light;
+		}
+
+		buffer.addVertexData(upload);
+	}
+}
@@ -125,6 +125,7 @@ public class CustomDoorRenderer extends DoorRenderer
 		model = new MalisisModel();
 		model.addShape("bottom", bottom);
 		model.addShape("top", top);
+		model.setPackedGeometry(true);
 		model.storeState();
 
 		initParams();
@@ -138,6 +139,13 @@ public class CustomDoorRenderer extends DoorRenderer
 		return true;
 	}
 
+	@Override
+	protected boolean canBake()
+	{
+		//materials and colors are specific to each door
+		return false;
+	}
+
 	@Override
 	protected void setItem()
 	{
@@ -41,6 +41,7 @@ import net.malisis.doors.renderer.model.loader.TextureModelLoader;
 import net.malisis.doors.util.AABBUtils;
 import net.malisis.doors.util.TransformBuilder;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -83,6 +84,12 @@ public class DefaultRenderer
 	 */
 	public static class Null extends MalisisRenderer<TileEntity>
 	{
+		@Override
+		public boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+		{
+			return false;
+		}
+
 		@Override
 		public void render()
 		{}
@@ -134,6 +141,12 @@ public class DefaultRenderer
 		private Shape shape = new Cube();
 		private RenderParameters rp = new RenderParameters();
 
+		@Override
+		protected MalisisRenderer<TileEntity> createBlockRenderer()
+		{
+			return new Block();
+		}
+
 		@Override
 		public boolean isGui3d()
 		{
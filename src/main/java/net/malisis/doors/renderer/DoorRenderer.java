@@ -24,19 +24,24 @@
 
 package net.malisis.doors.renderer;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javax.vecmath.Matrix4f;
 
 import org.apache.commons.lang3.ArrayUtils;
 
+import net.malisis.doors.DoorState;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.block.FenceGate;
 import net.malisis.doors.block.IComponent;
 import net.malisis.doors.block.TrapDoor;
 import net.malisis.doors.iconprovider.DoorIconProvider;
 import net.malisis.doors.item.DoorItem;
+import net.malisis.doors.movement.AnimationCache;
+import net.malisis.doors.movement.IDoorMovement;
 import net.malisis.doors.renderer.animation.Animation;
 import net.malisis.doors.renderer.animation.AnimationRenderer;
 import net.malisis.doors.renderer.animation.transformation.ITransformable;
@@ -47,10 +52,19 @@ import net.malisis.doors.renderer.icon.Icon;
 import net.malisis.doors.renderer.model.MalisisModel;
 import net.malisis.doors.tileentity.DoorTileEntity;
 import net.malisis.doors.util.TransformBuilder;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
+import net.minecraft.client.renderer.vertex.VertexFormat;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 {
@@ -62,6 +76,12 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 	protected MalisisModel model;
 	protected RenderParameters rp;
 	protected AnimationRenderer ar = new AnimationRenderer();
+	protected AnimationCache animationCache = new AnimationCache();
+	
+	/** Baked geometry for doors that are not moving. */
+	protected Map<BakeKey, BakedGeometry> bakedCache = new HashMap<>();
+	private BakeKey bakeKey = new BakeKey();
+	private int[] brightness = new int[2];
 	
 	protected Matrix4f gui = new TransformBuilder().translate(.15F, -0.25F, 0).rotate(30, 45, 0).scale(.46F).get();
 	protected Matrix4f thirdPerson = new TransformBuilder().translate(.1F, .3F, .3F).rotate(90, 90, 135).scale(0.3F).get();
@@ -73,11 +93,20 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		registerFor(DoorTileEntity.class);
 		ensureBlock(Door.class, TrapDoor.class, FenceGate.class);
 		setBatched();
+		MinecraftForge.EVENT_BUS.register(this);
 	}
 	
 	public DoorRenderer(boolean noRegister)
 	{
 		setBatched();
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+	
+	@SubscribeEvent
+	public void onTextureStitch(TextureStitchEvent.Post event)
+	{
+		//icons may have moved in the atlas
+		bakedCache.clear();
 	}
 	
 	@Override
@@ -93,6 +122,7 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		model.addShape("bottom", bottom);
 		model.addShape("top", top);
 		
+		model.setPackedGeometry(true);
 		model.storeState();
 		
 		initParams();
@@ -111,6 +141,13 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		rp.interpolateUV.set(false);
 	}
 	
+	@Override
+	public boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//only rendered as TESR
+		return false;
+	}
+	
 	@Override
 	public boolean isGui3d()
 	{
@@ -152,7 +189,6 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		if (renderType == RenderType.TILE_ENTITY && tileEntity != null)
 		{
 			setTileEntity();
-			setup();
 			renderTileEntity();
 		}
 		
@@ -194,15 +230,50 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		hingeLeft = tileEntity.isHingeLeft();
 	}
 	
+	/**
+	 * Checks whether the current {@link DoorTileEntity} can be drawn from baked geometry.
+	 *
+	 * @return true, if the door is not animating
+	 */
+	protected boolean canBake()
+	{
+		return !tileEntity.isMoving();
+	}
+	
 	protected void renderTileEntity()
+	{
+		if (!canBake())
+		{
+			setup();
+			renderModel();
+			return;
+		}
+		
+		bakeKey.set(block, tileEntity.getMovement(), direction, tileEntity.getState(), vertexFormat);
+		bakeKey.setFlags(hingeLeft, tileEntity.isCentered(), tileEntity.getDoubleDoor() != null, false);
+		BakedGeometry baked = bakedCache.get(bakeKey);
+		if (baked == null)
+		{
+			startBaking();
+			setup();
+			renderModel();
+			baked = endBaking();
+			bakedCache.put(new BakeKey(bakeKey), baked);
+		}
+		
+		brightness[0] = blockState.getPackedLightmapCoords(world, pos);
+		brightness[1] = blockState.withProperty(BlockDoor.HALF, BlockDoor.EnumDoorHalf.UPPER).getPackedLightmapCoords(world, pos.up());
+		drawBaked(baked, brightness);
+	}
+	
+	protected void renderModel()
 	{
 		ar.setStartTime(tileEntity.getTimer().getStart());
 		
-		List<ITransformable> toRender = new ArrayList<>();
 		if (tileEntity.getMovement() != null)
 		{
-			Animation<?>[] anims = tileEntity.getMovement().getAnimations(tileEntity, model, rp);
-			toRender = ar.animate(anims);
+			Animation<?>[] anims = animationCache.getAnimations(tileEntity, model, rp);
+			List<ITransformable> toRender = ar.animate(anims);
 			if (!ArrayUtils.isEmpty(anims) && toRender.size() == 0)
 				return;
 		}
@@ -213,6 +284,7 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		topBlock = false;
 		rp.brightness.set(blockState.getPackedLightmapCoords(world, pos));
 		drawShape(model.getShape("bottom"), rp);
+		markBakedSection();
 		
 		topBlock = true;
 		set(pos.up());
@@ -257,4 +329,61 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		return iconProvider.getIcon(topBlock, hingeLeft, params.textureSide.get());
 	}
 	
+	/**
+	 * Key identifying a static door render in the {@link DoorRenderer#bakedCache}.
+	 */
+	protected static class BakeKey
+	{
+		private Block block;
+		private IDoorMovement movement;
+		private EnumFacing direction;
+		private DoorState state;
+		private VertexFormat vertexFormat;
+		private int flags;
+		
+		public BakeKey()
+		{}
+		
+		public BakeKey(BakeKey key)
+		{
+			set(key.block, key.movement, key.direction, key.state, key.vertexFormat);
+			flags = key.flags;
+		}
+		
+		public void set(Block block, IDoorMovement movement, EnumFacing direction, DoorState state, VertexFormat vertexFormat)
+		{
+			this.block = block;
+			this.movement = movement;
+			this.direction = direction;
+			this.state = state;
+			this.vertexFormat = vertexFormat;
+		}
+		
+		public void setFlags(boolean hingeLeft, boolean centered, boolean doubleDoor, boolean top)
+		{
+			flags = (hingeLeft ? 1 : 0) | (centered ? 2 : 0) | (doubleDoor ? 4 : 0) | (top ? 8 : 0);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			int hash = Objects.hashCode(block);
+			hash = 31 * hash + Objects.hashCode(movement);
+			hash = 31 * hash + Objects.hashCode(direction);
+			hash = 31 * hash + Objects.hashCode(state);
+			hash = 31 * hash + Objects.hashCode(vertexFormat);
+			return 31 * hash + flags;
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof BakeKey))
+				return false;
+			BakeKey key = (BakeKey) obj;
+			return block == key.block && movement == key.movement && direction == key.direction && state == key.state
+					&& vertexFormat == key.vertexFormat && flags == key.flags;
+		}
+	}
+	
 }
@@ -26,6 +26,7 @@ package net.malisis.doors.renderer;
 
 import javax.vecmath.Matrix4f;
 
+import net.malisis.doors.movement.AnimationCache;
 import net.malisis.doors.renderer.DefaultRenderer;
 import net.malisis.doors.renderer.MalisisRenderer;
 import net.malisis.doors.renderer.RenderParameters;
@@ -38,9 +39,13 @@ import net.malisis.doors.renderer.model.MalisisModel;
 import net.malisis.doors.util.TransformBuilder;
 import net.malisis.doors.block.FenceGate;
 import net.malisis.doors.tileentity.FenceGateTileEntity;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing.Axis;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 
 /**
  * @author Ordinastie
@@ -51,6 +56,7 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 	private MalisisModel model;
 	private RenderParameters rp;
 	protected AnimationRenderer ar = new AnimationRenderer();
+	protected AnimationCache animationCache = new AnimationCache();
 
 	//    "display": {
 	//        "thirdperson": {
@@ -100,6 +106,7 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 		model.addShape("right", right);
 		model.addShape("left", left);
 
+		model.setPackedGeometry(true);
 		model.storeState();
 
 		initParams();
@@ -115,6 +122,13 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 		rp.calculateAOColor.set(false);
 	}
 
+	@Override
+	public boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//only rendered as TESR
+		return false;
+	}
+
 	@Override
 	public boolean isGui3d()
 	{
@@ -179,7 +193,7 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 
 		if (tileEntity.getMovement() != null)
 		{
-			Animation<?>[] anims = tileEntity.getMovement().getAnimations(tileEntity, model, rp);
+			Animation<?>[] anims = animationCache.getAnimations(tileEntity, model, rp);
 			ar.animate(anims);
 		}
 
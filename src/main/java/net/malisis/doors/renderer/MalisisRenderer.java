@@ -33,6 +33,7 @@ import org.lwjgl.opengl.GL11;
 
 import com.google.common.collect.Sets;
 
+import gnu.trove.list.array.TIntArrayList;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.asm.AsmUtils;
 import net.malisis.doors.block.BoundingBoxType;
@@ -43,6 +44,7 @@ import net.malisis.doors.registry.MalisisRegistry;
 import net.malisis.doors.renderer.element.Face;
 import net.malisis.doors.renderer.element.Shape;
 import net.malisis.doors.renderer.element.Vertex;
+import net.malisis.doors.renderer.element.VertexLayout;
 import net.malisis.doors.renderer.element.shape.Cube;
 import net.malisis.doors.renderer.font.FontOptions;
 import net.malisis.doors.renderer.font.MalisisFont;
@@ -149,6 +151,10 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 	protected int drawMode = GL11.GL_QUADS;
 	/** Base brightness of the block. */
 	protected int baseBrightness;
+	/** Reused {@link RenderParameters} holding the merged parameters of the face being drawn. */
+	private final RenderParameters faceParams = new RenderParameters();
+	/** Reused {@link RenderParameters} holding the merged parameters of the face being textured. */
+	private final RenderParameters textureParams = new RenderParameters();
 	/** Whether the rendering is batched (TESR/ANIMATED). **/
 	private boolean isBatched = false;
 	/** Vertex positions offset. **/
@@ -165,6 +171,19 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 	/** Whether at least one vertex has been drawn. */
 	protected boolean vertexDrawn = false;
 
+	/** Layout of the current vertex format. */
+	private VertexLayout vertexLayout = null;
+	/** Reused array the vertex data is written to before being added to the buffer. */
+	private int[] vertexData = null;
+
+	/** Copies of this {@link MalisisRenderer} used to render blocks outside of the main thread. */
+	private final ThreadLocal<MalisisRenderer<T>> blockRenderers = ThreadLocal.withInitial(this::createBlockRenderer);
+
+	/** Vertex data being baked, null when not baking. */
+	private TIntArrayList bakingData = null;
+	/** Index of the first vertex of each section being baked. */
+	private TIntArrayList bakingSections = new TIntArrayList();
+
 	/**
 	 * Instantiates a new {@link MalisisRenderer}.
 	 */
@@ -360,8 +379,43 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 	// #end
 
 	//#region IBlockRenderer
+	/**
+	 * Creates a new instance of this {@link MalisisRenderer} to render blocks in a chunk builder thread.<br>
+	 * The instance should not register itself anywhere. If null is returned, the block rendering is synchronized on this
+	 * {@link MalisisRenderer}.
+	 *
+	 * @return the renderer
+	 */
+	protected MalisisRenderer<T> createBlockRenderer()
+	{
+		return null;
+	}
+
+	/**
+	 * Renders the block with this {@link MalisisRenderer}, or with the copy for the current thread if called from a chunk builder thread.
+	 * <br>
+	 * The state of the rendering is held by the renderer fields, so each thread renders with its own copy instead of locking.
+	 *
+	 * @param wr the buffer
+	 * @param world the world
+	 * @param pos the pos
+	 * @param state the state
+	 * @return true, if vertexes were drawn
+	 */
 	@Override
-	public synchronized boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+	public boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		MalisisRenderer<T> renderer = Minecraft.getMinecraft().isCallingFromMinecraftThread() ? null : blockRenderers.get();
+		if (renderer != null)
+			return renderer.doRenderBlock(wr, world, pos, state);
+
+		synchronized (this)
+		{
+			return doRenderBlock(wr, world, pos, state);
+		}
+	}
+
+	private boolean doRenderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
 	{
 		this.buffer = wr;
 		set(world, state.getBlock(), pos, state);
@@ -895,7 +949,7 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 		if (params.deductParameters.get())
 			face.deductParameters();
 
-		params = RenderParameters.merge(params, face.getParameters());
+		params = RenderParameters.merge(params, face.getParameters(), faceParams);
 
 		if (!shouldRenderFace(face, params))
 			return;
@@ -950,11 +1004,73 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 		if (params != null && renderType == RenderType.ITEM)
 			vertex.setNormal(params.direction.get());
 
-		buffer.addVertexData(vertex.getVertexData(vertexFormat, posOffset));
+		if (vertexLayout == null || vertexLayout.getVertexFormat() != vertexFormat)
+		{
+			vertexLayout = VertexLayout.of(vertexFormat);
+			vertexData = new int[vertexLayout.getSize()];
+		}
 
+		if (bakingData != null)
+		{
+			vertex.writeVertexData(vertexData, vertexLayout, null);
+			bakingData.add(vertexData);
+		}
+		else
+		{
+			vertex.writeVertexData(vertexData, vertexLayout, posOffset);
+			buffer.addVertexData(vertexData);
+		}
+
+		vertexDrawn = true;
+	}
+
+	// #region Baking
+	/**
+	 * Starts baking.<br>
+	 * Until {@link #endBaking()} is called, the vertexes drawn are stored relative to the block instead of being added to the buffer.
+	 */
+	protected void startBaking()
+	{
+		bakingData = new TIntArrayList();
+		bakingSections.resetQuick();
+		bakingSections.add(0);
+	}
+
+	/**
+	 * Starts a new section for the vertexes baked from now on. Does nothing if not currently baking.
+	 */
+	protected void markBakedSection()
+	{
+		if (bakingData != null)
+			bakingSections.add(bakingData.size() / vertexFormat.getIntegerSize());
+	}
+
+	/**
+	 * Stops baking and gets the resulting {@link BakedGeometry}.
+	 *
+	 * @return the baked geometry
+	 */
+	protected BakedGeometry endBaking()
+	{
+		BakedGeometry baked = new BakedGeometry(vertexFormat, bakingData.toArray(), bakingSections.toArray());
+		bakingData = null;
+		return baked;
+	}
+
+	/**
+	 * Draws a {@link BakedGeometry} at the current position.
+	 *
+	 * @param baked the baked geometry
+	 * @param brightness the brightness for each section
+	 */
+	protected void drawBaked(BakedGeometry baked, int[] brightness)
+	{
+		baked.draw(buffer, posOffset, brightness);
 		vertexDrawn = true;
 	}
 
+	// #end Baking
+
 	/**
 	 * Draws a string at the specified coordinates, with color and shadow. The string gets translated. Uses FontRenderer.drawString().
 	 *
@@ -1052,7 +1168,7 @@ public class MalisisRenderer<T extends TileEntity> extends TileEntitySpecialRend
 		//shape.applyMatrix();
 		for (Face f : shape.getFaces())
 		{
-			RenderParameters rp = RenderParameters.merge(params, f.getParameters());
+			RenderParameters rp = RenderParameters.merge(params, f.getParameters(), textureParams);
 			applyTexture(f, rp);
 		}
 	}
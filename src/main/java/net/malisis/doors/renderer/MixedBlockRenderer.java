@@ -59,6 +59,12 @@ public class MixedBlockRenderer extends MalisisRenderer<MixedBlockTileEntity>
 	private IBlockState state1;
 	private IBlockState state2;
 	
+	@Override
+	protected MalisisRenderer<MixedBlockTileEntity> createBlockRenderer()
+	{
+		return new MixedBlockRenderer();
+	}
+	
 	@Override
 	protected void initialize()
 	{
@@ -27,28 +27,46 @@ package net.malisis.doors.renderer;
 import java.lang.reflect.Array;
 
 /**
+ * A single parameter of a {@link RenderParameters}.<br>
+ * The value is not held by the {@link Parameter} itself but stored in the flat arrays of its owner, so copying and merging
+ * {@link RenderParameters} never clones the parameters.
  *
  * @author Ordinastie
  * @param <T> type of value held by the {@link Parameter}
  */
-public class Parameter<T> implements Cloneable
+public class Parameter<T>
 {
+	/** The {@link RenderParameters} holding the value. */
+	private final RenderParameters owner;
+	/** Index of the value inside the owner. */
+	private final int index;
 	/** Default value. */
-	private T defaultValue;
-
-	/** Current alue. */
-	private T value;
+	private final T defaultValue;
 
 	/**
 	 * Instantiates a new parameter.
 	 *
+	 * @param owner the owner
+	 * @param index the index
 	 * @param defaultValue the default value
 	 */
-	public Parameter(T defaultValue)
+	Parameter(RenderParameters owner, int index, T defaultValue)
 	{
+		this.owner = owner;
+		this.index = index;
 		this.defaultValue = defaultValue;
 	}
 
+	/**
+	 * Gets the index of this {@link Parameter} inside its {@link RenderParameters}.
+	 *
+	 * @return the index
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+
 	/**
 	 * Gets the default value.
 	 *
@@ -64,9 +82,10 @@ public class Parameter<T> implements Cloneable
 	 *
 	 * @return the value
 	 */
+	@SuppressWarnings("unchecked")
 	public T getValue()
 	{
-		return value;
+		return (T) owner.getValue(index);
 	}
 
 	/**
@@ -74,7 +93,7 @@ public class Parameter<T> implements Cloneable
 	 */
 	public void reset()
 	{
-		value = null;
+		owner.setValue(index, null);
 	}
 
 	/**
@@ -84,6 +103,7 @@ public class Parameter<T> implements Cloneable
 	 */
 	public T get()
 	{
+		T value = getValue();
 		return value != null ? value : defaultValue;
 	}
 
@@ -94,7 +114,7 @@ public class Parameter<T> implements Cloneable
 	 */
 	public void set(T value)
 	{
-		this.value = value;
+		owner.setValue(index, value);
 	}
 
 	/**
@@ -105,6 +125,7 @@ public class Parameter<T> implements Cloneable
 	 */
 	public Object get(int index)
 	{
+		T value = getValue();
 		if (value == null)
 			return value;
 		if (value != null && !(value instanceof Object[]))
@@ -122,31 +143,15 @@ public class Parameter<T> implements Cloneable
 	 *
 	 * @param parameter the parameter
 	 */
-	@SuppressWarnings("unchecked")
 	public void merge(Parameter<?> parameter)
 	{
 		if (parameter.getValue() != null)
-			value = (T) parameter.getValue();
+			owner.setValue(index, parameter.getValue());
 	}
 
 	@Override
 	public String toString()
 	{
-		return value + " [" + defaultValue + "]";
-	}
-
-	@SuppressWarnings("unchecked")
-	@Override
-	protected Parameter<T> clone()
-	{
-		try
-		{
-			return (Parameter<T>) super.clone();
-		}
-		catch (CloneNotSupportedException e)
-		{
-			e.printStackTrace();
-		}
-		return null;
+		return getValue() + " [" + defaultValue + "]";
 	}
 }
@@ -24,8 +24,7 @@
 
 package net.malisis.doors.renderer;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 import net.malisis.doors.renderer.animation.transformation.ITransformable;
 import net.malisis.doors.renderer.icon.Icon;
@@ -39,68 +38,77 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class RenderParameters implements ITransformable.Color, ITransformable.Alpha, ITransformable.Brightness, Cloneable
 {
-	/** List of parameters inside this {@link RenderParameters}. */
-	protected List<Parameter<?>> listParams;
+	/** Number of {@link Parameter parameters} inside a {@link RenderParameters}. */
+	protected static final int PARAMETER_COUNT = 28;
+
+	/** Values of the {@link Parameter parameters}, indexed by {@link Parameter#getIndex()}. Null when the parameter is not set. */
+	protected Object[] values = new Object[PARAMETER_COUNT];
+	/** Bits of the {@link Parameter parameters} which have a value set. */
+	protected long setParams;
+	/** Parameters inside this {@link RenderParameters}. */
+	protected Parameter<?>[] parameters = new Parameter<?>[PARAMETER_COUNT];
+	/** Number of parameters created so far. */
+	private int count = 0;
 
 	/** Defines whether to render all faces even if shoudSideBeRendered is false */
-	public Parameter<Boolean> renderAllFaces = new Parameter<>(false);
+	public Parameter<Boolean> renderAllFaces = parameter(false);
 
 	/** Defines whether to use the block bounding box instead of renderBounds (Block Level) */
-	public Parameter<Boolean> useBlockBounds = new Parameter<>(true);
+	public Parameter<Boolean> useBlockBounds = parameter(true);
 
 	/** Defines the rendering bounds to limit the vertex inside (Block Level) */
-	public Parameter<AxisAlignedBB> renderBounds = new Parameter<>(null);
+	public Parameter<AxisAlignedBB> renderBounds = parameter(null);
 
 	/** Define whether a custom texture for drawing. It disable default icon behavior. A ResourceLocation need to be bound. */
-	public Parameter<Boolean> useCustomTexture = new Parameter<>(false);
+	public Parameter<Boolean> useCustomTexture = parameter(false);
 
 	/** Define whether to apply texture UV for the shape (Block level) */
-	public Parameter<Boolean> applyTexture = new Parameter<>(true);
+	public Parameter<Boolean> applyTexture = parameter(true);
 
 	/** Defines an {@link IIconProvider} to be used to get the icon for the faces. (Block Level) */
-	public Parameter<IIconProvider> iconProvider = new Parameter<>(null);
+	public Parameter<IIconProvider> iconProvider = parameter(null);
 
 	/** Defines a {@link Icon} to be used for the rendering. */
-	public Parameter<Icon> icon = new Parameter<>(null);
+	public Parameter<Icon> icon = parameter(null);
 
 	/** Defines whether to use block.getIcon(world, x, y, z, side) instead of block.getIcon(side, metadata) to get the IIcon */
-	public Parameter<Boolean> useWorldSensitiveIcon = new Parameter<>(true);
+	public Parameter<Boolean> useWorldSensitiveIcon = parameter(true);
 
 	/** Defines whether to use a texture (will call addVertexWithUV instead of addVertex) */
-	public Parameter<Boolean> useTexture = new Parameter<>(true);
+	public Parameter<Boolean> useTexture = parameter(true);
 
 	/** Defines whether to calculate interpolated textures coordinates depending on block bounds (Block Level) */
-	public Parameter<Boolean> interpolateUV = new Parameter<>(true);
+	public Parameter<Boolean> interpolateUV = parameter(true);
 
 	/** Defines whether to automatically rotate the icons for {@link DirectionalComponent} */
-	public Parameter<Boolean> rotateIcon = new Parameter<>(true);
+	public Parameter<Boolean> rotateIcon = parameter(true);
 
 	/** Defines whether to calculate ambient occlusion color or not (Block Level) */
-	public Parameter<Boolean> calculateAOColor = new Parameter<>(true);
+	public Parameter<Boolean> calculateAOColor = parameter(true);
 
 	/** Defines whether to calculate brightness or not (Block Level) */
-	public Parameter<Boolean> calculateBrightness = new Parameter<>(true);
+	public Parameter<Boolean> calculateBrightness = parameter(true);
 
 	/** Define whether to override each vertex color. If false, FaceParams.colorMultiplier will be used instead (Block Level) */
-	public Parameter<Boolean> usePerVertexColor = new Parameter<>(false);
+	public Parameter<Boolean> usePerVertexColor = parameter(false);
 
 	/** Define whether to override each vertex alpha. If false, FaceParams.alpha will be used instead (Block Level) */
-	public Parameter<Boolean> usePerVertexAlpha = new Parameter<>(false);
+	public Parameter<Boolean> usePerVertexAlpha = parameter(false);
 
 	/** Define whether to override each vertex brightness. If false, FaceParams.brightness will be used instead (Block Level) */
-	public Parameter<Boolean> usePerVertexBrightness = new Parameter<>(false);
+	public Parameter<Boolean> usePerVertexBrightness = parameter(false);
 
 	/** Defines whether to use the block mixBlockBrightness (if false, RenderParameters.brightness will be used) (Block Level) */
-	public Parameter<Boolean> useEnvironmentBrightness = new Parameter<>(true);
+	public Parameter<Boolean> useEnvironmentBrightness = parameter(true);
 
 	/** Defines whether to use the defined normals */
-	public Parameter<Boolean> useNormals = new Parameter<>(false);
+	public Parameter<Boolean> useNormals = parameter(false);
 
 	/**
 	 * Defines the color to apply to the face (useful for grass and leaves) usePerVertexColor must be false (Block Level).<br>
 	 * Overrides the Block.colorMultiplier() and Block.getRenderColor()
 	 */
-	public Parameter<Integer> colorMultiplier = new Parameter<>(null);
+	public Parameter<Integer> colorMultiplier = parameter(null);
 
 	/**
 	 * Defines the color factor for the face (Block Level). Used for shading the faces depending on their orientation : <br>
@@ -109,39 +117,37 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 	 * - TOP : 1<br>
 	 * - BOTTOM : 0.5<br>
 	 */
-	public Parameter<Float> colorFactor = new Parameter<>(1.0F);
+	public Parameter<Float> colorFactor = parameter(1.0F);
 
 	/** Defines brightness of the face (only used if useBlockBrightness = false) (Block Level) */
-	public Parameter<Integer> brightness = new Parameter<>(15728640); // 983055 - 15728640
+	public Parameter<Integer> brightness = parameter(15728640); // 983055 - 15728640
 
 	/** Defines alpha transparency for the face (GL11.GL_BLEND needs to be set before). usePerVertexAlpha must be false (Block Level) */
-	public Parameter<Integer> alpha = new Parameter<>(255);
+	public Parameter<Integer> alpha = parameter(255);
 
 	/** Defines the general direction of a face. Used for normals, and offset for AO and brightness calculation (Face Level) */
-	public Parameter<EnumFacing> direction = new Parameter<>(null);
+	public Parameter<EnumFacing> direction = parameter(null);
 
 	/** Defines which direction will be used to get the block icon. If ForgeDirection.UNKNOWN, no texture will be used (Face Level) */
-	public Parameter<EnumFacing> textureSide = new Parameter<>(null);
+	public Parameter<EnumFacing> textureSide = parameter(null);
 
 	/** Defines which block to take into account for AO calculation (Face Level) */
-	public Parameter<int[][][]> aoMatrix = new Parameter<>(null);
+	public Parameter<int[][][]> aoMatrix = parameter(null);
 
 	/** Defines whether to flip the texture on the U coordinates (Face Level) */
-	public Parameter<Boolean> flipU = new Parameter<>(false);
+	public Parameter<Boolean> flipU = parameter(false);
 
 	/** Defines whether to flip the texture on the U coordinates (Face Level) */
-	public Parameter<Boolean> flipV = new Parameter<>(false);
+	public Parameter<Boolean> flipV = parameter(false);
 
 	/** Defines whether a face should deducts its parameters before rendering. (Face level). */
-	public Parameter<Boolean> deductParameters = new Parameter<>(false);
+	public Parameter<Boolean> deductParameters = parameter(false);
 
 	/**
 	 * Instantiates a new {@link RenderParameters}.
 	 */
 	public RenderParameters()
-	{
-		buildList();
-	}
+	{}
 
 	/**
 	 * Instantiates a new {@link RenderParameters} with the {@link Parameter} values inside <code>params</code>.
@@ -150,44 +156,47 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 	 */
 	public RenderParameters(RenderParameters params)
 	{
-		this();
-		merge(params);
+		copy(params);
+	}
+
+	/**
+	 * Creates a new {@link Parameter} backed by this {@link RenderParameters}.
+	 *
+	 * @param <T> the type of value
+	 * @param defaultValue the default value
+	 * @return the parameter
+	 */
+	private <T> Parameter<T> parameter(T defaultValue)
+	{
+		Parameter<T> param = new Parameter<>(this, count, defaultValue);
+		parameters[count++] = param;
+		return param;
+	}
+
+	/**
+	 * Gets the value set for the {@link Parameter} at <code>index</code>.
+	 *
+	 * @param index the index
+	 * @return the value, null if not set
+	 */
+	Object getValue(int index)
+	{
+		return values[index];
 	}
 
 	/**
-	 * Builds the list of {@link Parameter} in this {@link RenderParameters}.
+	 * Sets the value for the {@link Parameter} at <code>index</code>.
+	 *
+	 * @param index the index
+	 * @param value the value, null to unset
 	 */
-	protected void buildList()
+	void setValue(int index, Object value)
 	{
-		listParams = new LinkedList<>();
-		listParams.add(renderAllFaces);
-		listParams.add(useBlockBounds);
-		listParams.add(renderBounds);
-		listParams.add(useCustomTexture);
-		listParams.add(applyTexture);
-		listParams.add(icon);
-		listParams.add(iconProvider);
-		listParams.add(useWorldSensitiveIcon);
-		listParams.add(useTexture);
-		listParams.add(interpolateUV);
-		listParams.add(rotateIcon);
-		listParams.add(calculateAOColor);
-		listParams.add(calculateBrightness);
-		listParams.add(usePerVertexColor);
-		listParams.add(usePerVertexAlpha);
-		listParams.add(usePerVertexBrightness);
-		listParams.add(useEnvironmentBrightness);
-		listParams.add(useNormals);
-		listParams.add(colorMultiplier);
-		listParams.add(colorFactor);
-		listParams.add(brightness);
-		listParams.add(alpha);
-		listParams.add(direction);
-		listParams.add(textureSide);
-		listParams.add(aoMatrix);
-		listParams.add(flipU);
-		listParams.add(flipV);
-		listParams.add(deductParameters);
+		values[index] = value;
+		if (value != null)
+			setParams |= 1L << index;
+		else
+			setParams &= ~(1L << index);
 	}
 
 	/**
@@ -196,11 +205,11 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 	 * @param index the index
 	 * @return the parameter
 	 */
-	private Parameter<?> getParameter(int index)
+	public Parameter<?> getParameter(int index)
 	{
-		if (index < 0 || index >= listParams.size())
+		if (index < 0 || index >= count)
 			return null;
-		return listParams.get(index);
+		return parameters[index];
 	}
 
 	/**
@@ -208,12 +217,30 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 	 */
 	public void reset()
 	{
-		for (Parameter<?> param : listParams)
-			param.reset();
+		Arrays.fill(values, null);
+		setParams = 0;
 	}
 
 	/**
-	 * Merges all the values of <code>params</code> inside this {@link RenderParameters} {@link Parameter parameters}.
+	 * Replaces all the values of this {@link RenderParameters} by the ones of <code>params</code>.
+	 *
+	 * @param params the params
+	 */
+	public void copy(RenderParameters params)
+	{
+		if (params == null)
+		{
+			reset();
+			return;
+		}
+
+		System.arraycopy(params.values, 0, values, 0, PARAMETER_COUNT);
+		setParams = params.setParams;
+	}
+
+	/**
+	 * Merges all the values of <code>params</code> inside this {@link RenderParameters} {@link Parameter parameters}.<br>
+	 * Only the values set in <code>params</code> are copied.
 	 *
 	 * @param params the params
 	 */
@@ -222,8 +249,14 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 		if (params == null)
 			return;
 
-		for (int i = 0; i < listParams.size(); i++)
-			getParameter(i).merge(params.getParameter(i));
+		long set = params.setParams;
+		while (set != 0)
+		{
+			int index = Long.numberOfTrailingZeros(set);
+			values[index] = params.values[index];
+			set &= set - 1;
+		}
+		setParams |= params.setParams;
 	}
 
 	@Override
@@ -253,55 +286,28 @@ public class RenderParameters implements ITransformable.Color, ITransformable.Al
 	 */
 	public static RenderParameters merge(RenderParameters rp1, RenderParameters rp2)
 	{
-		if (rp1 == null)
-			return rp2 == null ? new RenderParameters() : rp2.clone();
+		return merge(rp1, rp2, new RenderParameters());
+	}
 
-		RenderParameters rp = rp1.clone();
-		rp.merge(rp2);
-		return rp;
+	/**
+	 * Merges <code>rp1</code> and <code>rp2</code> into <code>dest</code>, replacing its previous values.<br>
+	 * Allows the renderers to reuse the same instance for every merge instead of allocating a new one.
+	 *
+	 * @param rp1 the rp1
+	 * @param rp2 the rp2
+	 * @param dest the destination
+	 * @return the destination
+	 */
+	public static RenderParameters merge(RenderParameters rp1, RenderParameters rp2, RenderParameters dest)
+	{
+		dest.copy(rp1);
+		dest.merge(rp2);
+		return dest;
 	}
 
 	@Override
 	public RenderParameters clone()
 	{
-		try
-		{
-			RenderParameters rp = (RenderParameters) super.clone();
-			rp.renderAllFaces = renderAllFaces.clone();
-			rp.useBlockBounds = useBlockBounds.clone();
-			rp.renderBounds = renderBounds.clone();
-			rp.useCustomTexture = useCustomTexture.clone();
-			rp.applyTexture = applyTexture.clone();
-			rp.iconProvider = iconProvider.clone();
-			rp.icon = icon.clone();
-			rp.useWorldSensitiveIcon = useWorldSensitiveIcon.clone();
-			rp.useTexture = useTexture.clone();
-			rp.interpolateUV = interpolateUV.clone();
-			rp.rotateIcon = rotateIcon.clone();
-			rp.calculateAOColor = calculateAOColor.clone();
-			rp.calculateBrightness = calculateBrightness.clone();
-			rp.usePerVertexColor = usePerVertexColor.clone();
-			rp.usePerVertexAlpha = usePerVertexAlpha.clone();
-			rp.usePerVertexBrightness = usePerVertexBrightness.clone();
-			rp.useEnvironmentBrightness = useEnvironmentBrightness.clone();
-			rp.useNormals = useNormals.clone();
-			rp.colorMultiplier = colorMultiplier.clone();
-			rp.colorFactor = colorFactor.clone();
-			rp.brightness = brightness.clone();
-			rp.alpha = alpha.clone();
-			rp.direction = direction.clone();
-			rp.textureSide = textureSide.clone();
-			rp.aoMatrix = aoMatrix.clone();
-			rp.flipU = flipU.clone();
-			rp.flipV = flipV.clone();
-			rp.deductParameters = deductParameters.clone();
-			rp.buildList();
-			return rp;
-		}
-		catch (CloneNotSupportedException e)
-		{
-			e.printStackTrace();
-		}
-		return null;
+		return new RenderParameters(this);
 	}
 }
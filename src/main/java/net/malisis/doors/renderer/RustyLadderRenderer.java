@@ -54,6 +54,12 @@ public class RustyLadderRenderer extends MalisisRenderer<TileEntity>
 	private Matrix4f firstPerson = new TransformBuilder().translate(-.1F, .1F, 0F).rotate(0, 0, 0).scale(0.5F).get();
 	private Matrix4f firstPersonLeft = new TransformBuilder().translate(-.1F, .1F, 0F).rotate(0, 180, 0).scale(0.5F).get();
 
+	@Override
+	protected MalisisRenderer<TileEntity> createBlockRenderer()
+	{
+		return new RustyLadderRenderer();
+	}
+
 	@Override
 	protected void initialize()
 	{
@@ -24,8 +24,12 @@
 
 package net.malisis.doors.renderer;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.vecmath.Matrix4f;
 
+import net.malisis.doors.movement.AnimationCache;
 import net.malisis.doors.renderer.MalisisRenderer;
 import net.malisis.doors.renderer.RenderParameters;
 import net.malisis.doors.renderer.RenderType;
@@ -39,9 +43,16 @@ import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.block.TrapDoor;
 import net.malisis.doors.tileentity.TrapDoorTileEntity;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 /**
  * @author Ordinastie
@@ -55,6 +66,11 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 	private MalisisModel slidingTrapDoorModel;
 	private RenderParameters rp;
 	private AnimationRenderer ar = new AnimationRenderer();
+	private AnimationCache animationCache = new AnimationCache();
+	/** Baked geometry for trap doors that are not moving. */
+	private Map<DoorRenderer.BakeKey, BakedGeometry> bakedCache = new HashMap<>();
+	private DoorRenderer.BakeKey bakeKey = new DoorRenderer.BakeKey();
+	private int[] brightness = new int[1];
 
 	private Matrix4f firstPersonRightHand = new TransformBuilder().translate(0, 0.25F, 0).rotate(0, 45, 0).scale(0.4F).get();
 	private Matrix4f firstPersonLeftHand = new TransformBuilder().translate(0, 0.25F, 0).rotate(0, 225, 0).scale(0.4F).get();
@@ -66,6 +82,14 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 	{
 		registerFor(TrapDoorTileEntity.class);
 		ensureBlock(TrapDoor.class);
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onTextureStitch(TextureStitchEvent.Post event)
+	{
+		//icons may have moved in the atlas
+		bakedCache.clear();
 	}
 
 	@Override
@@ -78,6 +102,7 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 
 		trapDoorModel = new MalisisModel();
 		trapDoorModel.addShape("shape", s);
+		trapDoorModel.setPackedGeometry(true);
 		trapDoorModel.storeState();
 
 		s = new Cube();
@@ -86,6 +111,7 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 
 		slidingTrapDoorModel = new MalisisModel();
 		slidingTrapDoorModel.addShape("shape", s);
+		slidingTrapDoorModel.setPackedGeometry(true);
 		slidingTrapDoorModel.storeState();
 
 		initParams();
@@ -96,11 +122,19 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 		rp = new RenderParameters();
 		rp.renderAllFaces.set(true);
 		rp.calculateAOColor.set(false);
+		rp.calculateBrightness.set(false);
 		rp.useBlockBounds.set(false);
 		rp.interpolateUV.set(false);
 		rp.deductParameters.set(true);
 	}
 
+	@Override
+	public boolean renderBlock(BufferBuilder wr, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//only rendered as TESR
+		return false;
+	}
+
 	@Override
 	public boolean isGui3d()
 	{
@@ -153,17 +187,28 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 			return;
 
 		MalisisModel model = block == MalisisDoors.Blocks.slidingTrapDoor ? slidingTrapDoorModel : trapDoorModel;
-		model.resetState();
 
 		if (renderType == RenderType.TILE_ENTITY)
 		{
-			setup(model);
-			renderTileEntity(model);
+			//use the trap door brightness so the render doesn't depend on the neighbors and can be baked
+			rp.useEnvironmentBrightness.set(false);
+			rp.brightness.set(blockState.getPackedLightmapCoords(world, pos));
+			if (tileEntity.isMoving())
+			{
+				model.resetState();
+				setup(model);
+				renderTileEntity(model);
+			}
+			else
+				renderBaked(model);
 			return;
 		}
 
 		if (renderType == RenderType.ITEM)
 		{
+			rp.useEnvironmentBrightness.reset();
+			rp.brightness.reset();
+			model.resetState();
 			model.render(this, rp);
 			return;
 		}
@@ -185,13 +230,32 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 			model.translate(0, 1 - Door.DOOR_WIDTH, 0);
 	}
 
+	protected void renderBaked(MalisisModel model)
+	{
+		bakeKey.set(block, tileEntity.getMovement(), tileEntity.getDirection(), tileEntity.getState(), vertexFormat);
+		bakeKey.setFlags(false, false, false, tileEntity.isTop());
+		BakedGeometry baked = bakedCache.get(bakeKey);
+		if (baked == null)
+		{
+			startBaking();
+			model.resetState();
+			setup(model);
+			renderTileEntity(model);
+			baked = endBaking();
+			bakedCache.put(new DoorRenderer.BakeKey(bakeKey), baked);
+		}
+
+		brightness[0] = rp.brightness.get();
+		drawBaked(baked, brightness);
+	}
+
 	protected void renderTileEntity(MalisisModel model)
 	{
 		ar.setStartTime(tileEntity.getTimer().getStart());
 
 		if (tileEntity.getMovement() != null)
 		{
-			Animation<?>[] anims = tileEntity.getMovement().getAnimations(tileEntity, model, rp);
+			Animation<?>[] anims = animationCache.getAnimations(tileEntity, model, rp);
 			ar.animate(anims);
 		}
 
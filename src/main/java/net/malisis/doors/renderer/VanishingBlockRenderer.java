@@ -59,7 +59,24 @@ public class VanishingBlockRenderer extends MalisisRenderer<VanishingTileEntity>
 	
 	public VanishingBlockRenderer()
 	{
-		registerFor(VanishingTileEntity.class);
+		this(true);
+	}
+	
+	/**
+	 * Instantiates a new {@link VanishingBlockRenderer}.
+	 *
+	 * @param register whether to register this renderer for {@link VanishingTileEntity}, false for the per-thread block renderer copies
+	 */
+	private VanishingBlockRenderer(boolean register)
+	{
+		if (register)
+			registerFor(VanishingTileEntity.class);
+	}
+	
+	@Override
+	protected MalisisRenderer<VanishingTileEntity> createBlockRenderer()
+	{
+		return new VanishingBlockRenderer(false);
 	}
 	
 	@Override
@@ -98,16 +115,17 @@ public class VanishingBlockRenderer extends MalisisRenderer<VanishingTileEntity>
 		{
 			if (tileEntity.getCopiedState().getBlock().canRenderInLayer(blockState, getRenderLayer()))
 			{
+				IBlockAccess access = ProxyAccess.getBlockAccess(world);
 				if (tileEntity.getCopiedState().getBlock() instanceof MalisisBlock)
-					vertexDrawn |= blockRenderer.renderBlock(tileEntity.getCopiedState(), pos, ProxyAccess.get(world), buffer);
+					vertexDrawn |= blockRenderer.renderBlock(tileEntity.getCopiedState(), pos, access, buffer);
 				else
 				{
 					IBlockState copiedState = tileEntity.getCopiedState().getBlock().getExtendedState(	tileEntity.getCopiedState(),
-							ProxyAccess.get(world),
+							access,
 							pos);
 					IBakedModel model = blockRenderer.getModelForState(tileEntity.getCopiedState());
 					vertexDrawn |= blockRenderer.getBlockModelRenderer()
-							.renderModel(ProxyAccess.get(world), model, copiedState, pos, buffer, true);
+							.renderModel(access, model, copiedState, pos, buffer, true);
 				}
 			}
 		}
@@ -173,6 +191,7 @@ public class VanishingBlockRenderer extends MalisisRenderer<VanishingTileEntity>
 			//				next();
 			
 			GL14.glBlendColor(0, 0, 0, scale);
+			IBlockAccess access = ProxyAccess.getBlockAccess(world);
 			for (BlockRenderLayer layer : BlockRenderLayer.values()) {
 				if (!tileEntity.getCopiedState().getBlock().canRenderInLayer(blockState, layer)) {
 					continue;
@@ -183,13 +202,12 @@ public class VanishingBlockRenderer extends MalisisRenderer<VanishingTileEntity>
 					GlStateManager.tryBlendFuncSeparate(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ZERO);
 				}
 				if (tileEntity.getCopiedState().getBlock() instanceof MalisisBlock) {
-					rendered |= blockRenderer.renderBlock(tileEntity.getCopiedState(), pos, ProxyAccess.get(world), buffer);
+					rendered |= blockRenderer.renderBlock(tileEntity.getCopiedState(), pos, access, buffer);
 					//drawShape(cube, rp);
 				}
 				else {
-					IBlockState copiedState = tileEntity.getCopiedState().getBlock().getExtendedState(tileEntity.getCopiedState(), ProxyAccess.get(world), pos);
+					IBlockState copiedState = tileEntity.getCopiedState().getBlock().getExtendedState(tileEntity.getCopiedState(), access, pos);
 					IBakedModel model = blockRenderer.getModelForState(tileEntity.getCopiedState());
-					IBlockAccess access = ProxyAccess.get(world);
 					vertexDrawn |= blockRenderer.getBlockModelRenderer().renderModel(access, model, copiedState, pos, buffer, false);
 				}
 				
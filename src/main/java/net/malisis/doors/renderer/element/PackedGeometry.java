@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.renderer.element;
+
+import org.lwjgl.util.vector.Matrix4f;
+
+/**
+ * Structure of arrays storage for the {@link Vertex vertexes} of a {@link Shape}.<br>
+ * Positions and UVs are stored in a single float array, and colors, alpha, brightness and normals in a single int array. Each array has a
+ * parallel copy holding the stored state of the vertexes, so {@link #storeState()} and {@link #resetState()} are plain array copies, and
+ * the transformation matrix of the {@link Shape} is applied to all the positions in a single loop.<br>
+ * The {@link Vertex} objects stay available and read and write their values from this {@link PackedGeometry} while they are bound to it.
+ *
+ * @author Ordinastie
+ */
+public class PackedGeometry
+{
+	/** Number of floats per vertex. */
+	static final int FLOATS = 5;
+	static final int X = 0;
+	static final int Y = 1;
+	static final int Z = 2;
+	static final int U = 3;
+	static final int V = 4;
+
+	/** Number of ints per vertex. */
+	static final int INTS = 4;
+	static final int COLOR = 0;
+	static final int ALPHA = 1;
+	static final int BRIGHTNESS = 2;
+	static final int NORMAL = 3;
+
+	/** Vertexes bound to this {@link PackedGeometry}. */
+	private final Vertex[] vertexes;
+	/** Positions and UVs of the vertexes. */
+	private final float[] floats;
+	/** Colors, alpha, brightness and normals of the vertexes. */
+	private final int[] ints;
+	/** Stored positions and UVs. */
+	private final float[] savedFloats;
+	/** Stored colors, alpha, brightness and normals. */
+	private final int[] savedInts;
+
+	/**
+	 * Instantiates a new {@link PackedGeometry} for the {@link Vertex vertexes} of the {@link Face faces}, and binds them to it.
+	 *
+	 * @param faces the faces
+	 */
+	public PackedGeometry(Face[] faces)
+	{
+		int count = 0;
+		for (Face f : faces)
+			for (Vertex v : f.getVertexes())
+				if (v != null)
+					count++;
+
+		vertexes = new Vertex[count];
+		floats = new float[count * FLOATS];
+		ints = new int[count * INTS];
+		savedFloats = new float[count * FLOATS];
+		savedInts = new int[count * INTS];
+
+		int index = 0;
+		for (Face f : faces)
+		{
+			for (Vertex v : f.getVertexes())
+			{
+				if (v == null)
+					continue;
+				vertexes[index] = v;
+				v.bind(this, index++);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of {@link Vertex vertexes} in this {@link PackedGeometry}.
+	 *
+	 * @return the size
+	 */
+	public int size()
+	{
+		return vertexes.length;
+	}
+
+	float getFloat(int index, int field)
+	{
+		return floats[index * FLOATS + field];
+	}
+
+	void setFloat(int index, int field, double value)
+	{
+		floats[index * FLOATS + field] = (float) value;
+	}
+
+	int getInt(int index, int field)
+	{
+		return ints[index * INTS + field];
+	}
+
+	void setInt(int index, int field, int value)
+	{
+		ints[index * INTS + field] = value;
+	}
+
+	/**
+	 * Sets the values for the {@link Vertex} at <code>index</code>.
+	 *
+	 * @param index the index
+	 * @param current the current values
+	 * @param initial the stored values
+	 */
+	void set(int index, Vertex current, Vertex initial)
+	{
+		write(floats, ints, index, current);
+		write(savedFloats, savedInts, index, initial);
+	}
+
+	/**
+	 * Reads the values for the {@link Vertex} at <code>index</code> back into unbound vertexes.
+	 *
+	 * @param index the index
+	 * @param current the vertex receiving the current values
+	 * @param initial the vertex receiving the stored values
+	 */
+	void read(int index, Vertex current, Vertex initial)
+	{
+		read(floats, ints, index, current);
+		read(savedFloats, savedInts, index, initial);
+	}
+
+	private void read(float[] f, int[] i, int index, Vertex vertex)
+	{
+		int fi = index * FLOATS;
+		vertex.set(f[fi + X], f[fi + Y], f[fi + Z]);
+		vertex.setUV(f[fi + U], f[fi + V]);
+
+		int ii = index * INTS;
+		vertex.setColor(i[ii + COLOR]);
+		vertex.setAlpha(i[ii + ALPHA]);
+		vertex.setBrightness(i[ii + BRIGHTNESS]);
+		vertex.setNormal(i[ii + NORMAL]);
+	}
+
+	private void write(float[] f, int[] i, int index, Vertex vertex)
+	{
+		int fi = index * FLOATS;
+		f[fi + X] = (float) vertex.getX();
+		f[fi + Y] = (float) vertex.getY();
+		f[fi + Z] = (float) vertex.getZ();
+		f[fi + U] = (float) vertex.getU();
+		f[fi + V] = (float) vertex.getV();
+
+		int ii = index * INTS;
+		i[ii + COLOR] = vertex.getColor();
+		i[ii + ALPHA] = vertex.getAlpha();
+		i[ii + BRIGHTNESS] = vertex.getBrightness();
+		i[ii + NORMAL] = vertex.getNormal();
+	}
+
+	/**
+	 * Unbinds all the {@link Vertex vertexes} from this {@link PackedGeometry}. The vertexes get back their current and stored values.
+	 */
+	public void unbind()
+	{
+		for (Vertex v : vertexes)
+			v.unbind(this);
+	}
+
+	/**
+	 * Applies the transformation matrix to the positions of all the {@link Vertex vertexes}.
+	 *
+	 * @param matrix the matrix
+	 */
+	public void applyMatrix(Matrix4f matrix)
+	{
+		float m00 = matrix.m00, m01 = matrix.m01, m02 = matrix.m02;
+		float m10 = matrix.m10, m11 = matrix.m11, m12 = matrix.m12;
+		float m20 = matrix.m20, m21 = matrix.m21, m22 = matrix.m22;
+		float m30 = matrix.m30, m31 = matrix.m31, m32 = matrix.m32;
+
+		float[] f = floats;
+		for (int i = 0; i < f.length; i += FLOATS)
+		{
+			float x = f[i + X];
+			float y = f[i + Y];
+			float z = f[i + Z];
+			f[i + X] = m00 * x + m10 * y + m20 * z + m30;
+			f[i + Y] = m01 * x + m11 * y + m21 * z + m31;
+			f[i + Z] = m02 * x + m12 * y + m22 * z + m32;
+		}
+	}
+
+	/**
+	 * Stores the current state of all the {@link Vertex vertexes}.
+	 */
+	public void storeState()
+	{
+		System.arraycopy(floats, 0, savedFloats, 0, floats.length);
+		System.arraycopy(ints, 0, savedInts, 0, ints.length);
+	}
+
+	/**
+	 * Resets all the {@link Vertex vertexes} to their stored state.
+	 */
+	public void resetState()
+	{
+		System.arraycopy(savedFloats, 0, floats, 0, floats.length);
+		System.arraycopy(savedInts, 0, ints, 0, ints.length);
+	}
+
+	/**
+	 * Stores the current state of the {@link Vertex} at <code>index</code>.
+	 *
+	 * @param index the index
+	 */
+	void storeState(int index)
+	{
+		System.arraycopy(floats, index * FLOATS, savedFloats, index * FLOATS, FLOATS);
+		System.arraycopy(ints, index * INTS, savedInts, index * INTS, INTS);
+	}
+
+	/**
+	 * Resets the {@link Vertex} at <code>index</code> to its stored state.
+	 *
+	 * @param index the index
+	 */
+	void resetState(int index)
+	{
+		System.arraycopy(savedFloats, index * FLOATS, floats, index * FLOATS, FLOATS);
+		System.arraycopy(savedInts, index * INTS, ints, index * INTS, INTS);
+	}
+}
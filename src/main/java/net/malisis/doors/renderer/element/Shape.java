@@ -52,6 +52,13 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 
 	/** The matrix containing all the transformations applied to this {@link Shape}. */
 	protected Matrix4f transformMatrix = new Matrix4f();
+	/** Whether {@link #transformMatrix} holds transformations not yet applied to the {@link Vertex vertexes}. */
+	protected boolean transformed = false;
+	/** Reused vector for the {@link #transformMatrix} operations. */
+	private final Vector3f vector = new Vector3f();
+
+	/** The packed storage for the {@link Vertex vertexes} of this {@link Shape}, null if not enabled. */
+	protected PackedGeometry geometry;
 
 	/** The merged vertexes making up this {@link Shape}. */
 	protected Map<String, MergedVertex> mergedVertexes;
@@ -100,6 +107,8 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 		for (int i = 0; i < shapeFaces.length; i++)
 			faces[i] = new Face(shapeFaces[i]);
 		copyMatrix(s);
+		if (s.geometry != null)
+			enablePackedGeometry();
 	}
 
 	//#region FACES
@@ -130,6 +139,7 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 		}
 
 		this.faces = ArrayUtils.addAll(this.faces, faces);
+		rebuildPackedGeometry();
 
 		return this;
 	}
@@ -189,11 +199,63 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 		}
 
 		faces = ArrayUtils.removeElement(faces, face);
+		rebuildPackedGeometry();
 		return this;
 	}
 
 	//#end FACES
 
+	//#region PACKED GEOMETRY
+	/**
+	 * Enables the {@link PackedGeometry} for this {@link Shape}. The values of the {@link Vertex vertexes} are then stored in flat arrays
+	 * and {@link #storeState()}, {@link #resetState()} and {@link #applyMatrix()} work on these arrays directly.<br>
+	 * The vertexes can still be used as before.
+	 *
+	 * @return this {@link Shape}
+	 */
+	public Shape enablePackedGeometry()
+	{
+		if (geometry == null)
+			geometry = new PackedGeometry(faces);
+		return this;
+	}
+
+	/**
+	 * Disables the {@link PackedGeometry} for this {@link Shape}. The {@link Vertex vertexes} hold their own values again.
+	 *
+	 * @return this {@link Shape}
+	 */
+	public Shape disablePackedGeometry()
+	{
+		if (geometry != null)
+			geometry.unbind();
+		geometry = null;
+		return this;
+	}
+
+	/**
+	 * Checks whether the {@link PackedGeometry} is enabled for this {@link Shape}.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isPackedGeometry()
+	{
+		return geometry != null;
+	}
+
+	/**
+	 * Rebuilds the {@link PackedGeometry} after the {@link Face faces} changed.
+	 */
+	private void rebuildPackedGeometry()
+	{
+		if (geometry == null)
+			return;
+		geometry.unbind();
+		geometry = new PackedGeometry(faces);
+	}
+
+	//#end PACKED GEOMETRY
+
 	//#region VERTEXES
 	/**
 	 * Enables the {@link MergedVertex} for this {@link Shape}. Will transfer the current transformation matrix to the {@link MergedVertex}
@@ -321,8 +383,22 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 	private void resetMatrix()
 	{
 		transformMatrix.setIdentity();
-		transformMatrix.translate(new Vector3f(0.5F, 0.5F, 0.5F));
+		transformMatrix.translate(vector(0.5F, 0.5F, 0.5F));
+		transformed = false;
+	}
 
+	/**
+	 * Sets the reused vector for the {@link #transformMatrix} operations.
+	 *
+	 * @param x the x
+	 * @param y the y
+	 * @param z the z
+	 * @return the vector
+	 */
+	private Vector3f vector(float x, float y, float z)
+	{
+		vector.set(x, y, z);
+		return vector;
 	}
 
 	/**
@@ -334,6 +410,7 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 	public Shape copyMatrix(Shape shape)
 	{
 		this.transformMatrix = new Matrix4f(shape.transformMatrix);
+		this.transformed = shape.transformed;
 		return this;
 	}
 
@@ -353,14 +430,23 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 			return this;
 		}
 
+		//nothing to apply
+		if (!transformed)
+			return this;
+
 		//transform back to original place
-		transformMatrix.translate(new Vector3f(-0.5F, -0.5F, -0.5F));
+		transformMatrix.translate(vector(-0.5F, -0.5F, -0.5F));
 
-		for (Face f : faces)
+		if (geometry != null)
+			geometry.applyMatrix(transformMatrix);
+		else
 		{
-			for (Vertex v : f.getVertexes())
-				if (v != null)
-					v.applyMatrix(transformMatrix);
+			for (Face f : faces)
+			{
+				for (Vertex v : f.getVertexes())
+					if (v != null)
+						v.applyMatrix(transformMatrix);
+			}
 		}
 
 		resetMatrix();
@@ -537,7 +623,10 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 				mv.translate(x, y, z);
 		}
 		else
-			transformMatrix.translate(new Vector3f(x, y, z));
+		{
+			transformMatrix.translate(vector(x, y, z));
+			transformed = true;
+		}
 	}
 
 	/**
@@ -583,7 +672,8 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 		else
 		{
 			translate(offsetX, offsetY, offsetZ);
-			transformMatrix.scale(new Vector3f(x, y, z));
+			transformMatrix.scale(vector(x, y, z));
+			transformed = true;
 			translate(-offsetX, -offsetY, -offsetZ);
 		}
 	}
@@ -623,7 +713,8 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 		else
 		{
 			translate(offsetX, offsetY, offsetZ);
-			transformMatrix.rotate((float) Math.toRadians(angle), new Vector3f(x, y, z));
+			transformMatrix.rotate((float) Math.toRadians(angle), vector(x, y, z));
+			transformed = true;
 			translate(-offsetX, -offsetY, -offsetZ);
 		}
 	}
@@ -636,6 +727,12 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 	public Shape storeState()
 	{
 		applyMatrix();
+		if (geometry != null)
+		{
+			geometry.storeState();
+			return this;
+		}
+
 		for (Face f : faces)
 		{
 			for (Vertex v : f.getVertexes())
@@ -653,6 +750,12 @@ public class Shape implements ITransformable.Translate, ITransformable.Rotate, I
 	public Shape resetState()
 	{
 		resetMatrix();
+		if (geometry != null)
+		{
+			geometry.resetState();
+			return this;
+		}
+
 		for (Face f : faces)
 		{
 			for (Vertex v : f.getVertexes())
@@ -25,7 +25,6 @@
 package net.malisis.doors.renderer.element;
 
 import org.lwjgl.util.vector.Matrix4f;
-import org.lwjgl.util.vector.Vector4f;
 
 import net.malisis.doors.util.Point;
 import net.minecraft.client.renderer.vertex.VertexFormat;
@@ -55,6 +54,11 @@ public class Vertex
 
 	private Vertex initialState;
 
+	/** {@link PackedGeometry} holding the values of this {@link Vertex}, null if the vertex holds its own values. */
+	private PackedGeometry geometry;
+	/** Index of this {@link Vertex} inside its {@link PackedGeometry}. */
+	private int index;
+
 	public Vertex(double x, double y, double z, int rgba, int brightness, double u, double v, int normal, boolean isInitialState)
 	{
 		set(x, y, z);
@@ -86,137 +90,166 @@ public class Vertex
 
 	public Vertex(Vertex vertex)
 	{
-		this(vertex.x, vertex.y, vertex.z, vertex.color << 8 | vertex.alpha, vertex.getBrightness(), vertex.u, vertex.v, 0, false);
+		this(vertex.getX(), vertex.getY(), vertex.getZ(), vertex.getColor() << 8 | vertex.getAlpha(), vertex.getBrightness(), vertex.getU(),
+				vertex.getV(), 0, false);
 		baseName = vertex.baseName;
 	}
 
 	public Vertex(Vertex vertex, int rgba, int brightness)
 	{
-		this(vertex.x, vertex.y, vertex.z, rgba, brightness);
+		this(vertex.getX(), vertex.getY(), vertex.getZ(), rgba, brightness);
 	}
 
 	public Vertex(Vertex vertex, int rgba, int brightness, float u, float v)
 	{
-		this(vertex.x, vertex.y, vertex.z, rgba, brightness, u, v, 0, false);
+		this(vertex.getX(), vertex.getY(), vertex.getZ(), rgba, brightness, u, v, 0, false);
 	}
 
 	//#region Getters/Setters
 	public double getX()
 	{
-		return x;
+		return geometry != null ? geometry.getFloat(index, PackedGeometry.X) : x;
 	}
 
 	public int getIntX()
 	{
-		return (int) Math.round(x);
+		return (int) Math.round(getX());
 	}
 
 	public Vertex setX(double x)
 	{
-		this.x = x;
+		if (geometry != null)
+			geometry.setFloat(index, PackedGeometry.X, x);
+		else
+			this.x = x;
 		return this;
 	}
 
 	public double getY()
 	{
-		return y;
+		return geometry != null ? geometry.getFloat(index, PackedGeometry.Y) : y;
 	}
 
 	public int getIntY()
 	{
-		return (int) Math.round(y);
+		return (int) Math.round(getY());
 	}
 
 	public Vertex setY(double y)
 	{
-		this.y = y;
+		if (geometry != null)
+			geometry.setFloat(index, PackedGeometry.Y, y);
+		else
+			this.y = y;
 		return this;
 	}
 
 	public double getZ()
 	{
-		return z;
+		return geometry != null ? geometry.getFloat(index, PackedGeometry.Z) : z;
 	}
 
 	public int getIntZ()
 	{
-		return (int) Math.round(z);
+		return (int) Math.round(getZ());
 	}
 
 	public Vertex setZ(double z)
 	{
-		this.z = z;
+		if (geometry != null)
+			geometry.setFloat(index, PackedGeometry.Z, z);
+		else
+			this.z = z;
 		return this;
 	}
 
 	public void set(double x, double y, double z)
 	{
-		this.x = x;
-		this.y = y;
-		this.z = z;
+		setX(x);
+		setY(y);
+		setZ(z);
 	}
 
 	public int getColor()
 	{
-		return this.color;
+		return geometry != null ? geometry.getInt(index, PackedGeometry.COLOR) : color;
 	}
 
 	public Vertex setColor(int color)
 	{
-		this.color = color & 0xFFFFFF;
+		if (geometry != null)
+			geometry.setInt(index, PackedGeometry.COLOR, color & 0xFFFFFF);
+		else
+			this.color = color & 0xFFFFFF;
 		return this;
 	}
 
 	public int getAlpha()
 	{
-		return this.alpha;
+		return geometry != null ? geometry.getInt(index, PackedGeometry.ALPHA) : alpha;
 	}
 
 	public Vertex setAlpha(int alpha)
 	{
-		this.alpha = alpha & 255;
+		if (geometry != null)
+			geometry.setInt(index, PackedGeometry.ALPHA, alpha & 255);
+		else
+			this.alpha = alpha & 255;
 		return this;
 	}
 
 	public int getRGBA()
 	{
+		int color = getColor();
 		int r = (color >> 16) & 255;
 		int g = (color >> 8) & 255;
 		int b = color & 255;
-		return alpha << 24 | b << 16 | g << 8 | r;
+		return getAlpha() << 24 | b << 16 | g << 8 | r;
 	}
 
 	public Vertex setRGBA(int rgba)
 	{
-		this.color = (rgba >>> 8) & 0xFFFFFF;
-		this.alpha = rgba & 255;
+		setColor((rgba >>> 8) & 0xFFFFFF);
+		setAlpha(rgba & 255);
 		return this;
 	}
 
 	public int getBlockBrightness()
 	{
-		return brightness & 240;
+		return getBrightness() & 240;
 	}
 
 	public int getSkyBrightness()
 	{
-		return (brightness >> 16) & 240;
+		return (getBrightness() >> 16) & 240;
 	}
 
 	public int getBrightness()
 	{
-		return brightness;
+		return geometry != null ? geometry.getInt(index, PackedGeometry.BRIGHTNESS) : brightness;
 	}
 
 	public Vertex setBrightness(int brightness)
 	{
-		this.brightness = brightness;
+		if (geometry != null)
+			geometry.setInt(index, PackedGeometry.BRIGHTNESS, brightness);
+		else
+			this.brightness = brightness;
 		return this;
 	}
 
 	public int getNormal()
 	{
-		return normal;
+		return geometry != null ? geometry.getInt(index, PackedGeometry.NORMAL) : normal;
+	}
+
+	Vertex setNormal(int normal)
+	{
+		if (geometry != null)
+			geometry.setInt(index, PackedGeometry.NORMAL, normal);
+		else
+			this.normal = normal;
+		return this;
 	}
 
 	public Vertex setNormal(float x, float y, float z)
@@ -224,8 +257,7 @@ public class Vertex
 		byte b0 = (byte) (x * 127.0F);
 		byte b1 = (byte) (y * 127.0F);
 		byte b2 = (byte) (z * 127.0F);
-		normal = b0 & 255 | (b1 & 255) << 8 | (b2 & 255) << 16;
-		return this;
+		return setNormal(b0 & 255 | (b1 & 255) << 8 | (b2 & 255) << 16);
 	}
 
 	public Vertex setNormal(EnumFacing facing)
@@ -237,18 +269,26 @@ public class Vertex
 
 	public double getU()
 	{
-		return this.u;
+		return geometry != null ? geometry.getFloat(index, PackedGeometry.U) : u;
 	}
 
 	public double getV()
 	{
-		return this.v;
+		return geometry != null ? geometry.getFloat(index, PackedGeometry.V) : v;
 	}
 
 	public void setUV(double u, double v)
 	{
-		this.u = u;
-		this.v = v;
+		if (geometry != null)
+		{
+			geometry.setFloat(index, PackedGeometry.U, u);
+			geometry.setFloat(index, PackedGeometry.V, v);
+		}
+		else
+		{
+			this.u = u;
+			this.v = v;
+		}
 	}
 
 	//#end Getters/Setters
@@ -263,9 +303,7 @@ public class Vertex
 	 */
 	public Vertex translate(double x, double y, double z)
 	{
-		this.x += x;
-		this.y += y;
-		this.z += z;
+		set(getX() + x, getY() + y, getZ() + z);
 		return this;
 	}
 
@@ -276,8 +314,7 @@ public class Vertex
 
 	public Vertex scaleX(float f, float offset)
 	{
-		x = (x - offset) * f + offset;
-		return this;
+		return setX((getX() - offset) * f + offset);
 	}
 
 	public Vertex scaleY(float f)
@@ -287,8 +324,7 @@ public class Vertex
 
 	public Vertex scaleY(float f, float offset)
 	{
-		y = (y - offset) * f + offset;
-		return this;
+		return setY((getY() - offset) * f + offset);
 	}
 
 	public Vertex scaleZ(float f)
@@ -298,8 +334,7 @@ public class Vertex
 
 	public Vertex scaleZ(float f, float offset)
 	{
-		z = (z - offset) * f + offset;
-		return this;
+		return setZ((getZ() - offset) * f + offset);
 	}
 
 	public Vertex scale(float f)
@@ -331,12 +366,10 @@ public class Vertex
 	public Vertex rotateAroundX(double angle, double centerX, double centerY, double centerZ)
 	{
 		angle = Math.toRadians(angle);
-		double ty = y - centerY;
-		double tz = z - centerZ;
-		y = ty * Math.cos(angle) - tz * Math.sin(angle);
-		z = ty * Math.sin(angle) + tz * Math.cos(angle);
-		y += centerY;
-		z += centerZ;
+		double ty = getY() - centerY;
+		double tz = getZ() - centerZ;
+		setY(ty * Math.cos(angle) - tz * Math.sin(angle) + centerY);
+		setZ(ty * Math.sin(angle) + tz * Math.cos(angle) + centerZ);
 		return this;
 	}
 
@@ -348,12 +381,10 @@ public class Vertex
 	public Vertex rotateAroundY(double angle, double centerX, double centerY, double centerZ)
 	{
 		angle = Math.toRadians(angle);
-		double tx = x - centerX;
-		double tz = z - centerZ;
-		x = tx * Math.cos(angle) + tz * Math.sin(angle);
-		z = -tx * Math.sin(angle) + tz * Math.cos(angle);
-		x += centerX;
-		z += centerZ;
+		double tx = getX() - centerX;
+		double tz = getZ() - centerZ;
+		setX(tx * Math.cos(angle) + tz * Math.sin(angle) + centerX);
+		setZ(-tx * Math.sin(angle) + tz * Math.cos(angle) + centerZ);
 		return this;
 	}
 
@@ -365,27 +396,26 @@ public class Vertex
 	public Vertex rotateAroundZ(double angle, double centerX, double centerY, double centerZ)
 	{
 		angle = Math.toRadians(angle);
-		double tx = x - centerX;
-		double ty = y - centerY;
-		x = tx * Math.cos(angle) - ty * Math.sin(angle);
-		y = tx * Math.sin(angle) + ty * Math.cos(angle);
-		x += centerX;
-		y += centerY;
+		double tx = getX() - centerX;
+		double ty = getY() - centerY;
+		setX(tx * Math.cos(angle) - ty * Math.sin(angle) + centerX);
+		setY(tx * Math.sin(angle) + ty * Math.cos(angle) + centerY);
 		return this;
 	}
 
 	public void limitU(float min, float max)
 	{
-		u = Math.max(Math.min(u, max), min);
+		setUV(Math.max(Math.min(getU(), max), min), getV());
 	}
 
 	public void limitV(float min, float max)
 	{
-		v = Math.max(Math.min(v, max), min);
+		setUV(getU(), Math.max(Math.min(getV(), max), min));
 	}
 
 	public boolean isCorner()
 	{
+		double x = getX(), y = getY(), z = getZ();
 		return (x == 1 || x == 0) && (y == 1 || y == 0) && (z == 1 || z == 0);
 	}
 
@@ -401,26 +431,26 @@ public class Vertex
 		{
 			baseName = "";
 			if (isCorner())
-				baseName = (y == 1 ? "Top" : "Bottom") + (z == 1 ? "South" : "North") + (x == 1 ? "East" : "West");
+				baseName = (getY() == 1 ? "Top" : "Bottom") + (getZ() == 1 ? "South" : "North") + (getX() == 1 ? "East" : "West");
 		}
 		return baseName;
 	}
 
 	public String name()
 	{
-		return baseName() + " [" + x + ", " + y + ", " + z + "|" + u + ", " + v + "]";
+		return baseName() + " [" + getX() + ", " + getY() + ", " + getZ() + "|" + getU() + ", " + getV() + "]";
 	}
 
 	@Override
 	public String toString()
 	{
-		return name() + " 0x" + Integer.toHexString(color) + " (a:" + alpha + ", bb:" + getBlockBrightness() + ", sb:" + getSkyBrightness()
-				+ ")";
+		return name() + " 0x" + Integer.toHexString(getColor()) + " (a:" + getAlpha() + ", bb:" + getBlockBrightness() + ", sb:"
+				+ getSkyBrightness() + ")";
 	}
 
 	public Point toPoint()
 	{
-		return new Point(x, y, z);
+		return new Point(getX(), getY(), getZ());
 	}
 
 	public static double clamp(double value)
@@ -439,11 +469,12 @@ public class Vertex
 
 	public void applyMatrix(Matrix4f transformMatrix)
 	{
-		Vector4f vec = new Vector4f((float) x, (float) y, (float) z, 1F);
-		Matrix4f.transform(transformMatrix, vec, vec);
-		x = vec.x;
-		y = vec.y;
-		z = vec.z;
+		Matrix4f m = transformMatrix;
+		float x = (float) getX();
+		float y = (float) getY();
+		float z = (float) getZ();
+		set(m.m00 * x + m.m10 * y + m.m20 * z + m.m30, m.m01 * x + m.m11 * y + m.m21 * z + m.m31, m.m02 * x + m.m12 * y + m.m22 * z
+				+ m.m32);
 	}
 
 	/**
@@ -454,6 +485,22 @@ public class Vertex
 	 * @return the vertex data
 	 */
 	public int[] getVertexData(VertexFormat vertexFormat, Vec3d offset)
+	{
+		VertexLayout layout = VertexLayout.of(vertexFormat);
+		int[] data = new int[layout.getSize()];
+		writeVertexData(data, layout, offset);
+		return data;
+	}
+
+	/**
+	 * Writes the vertex data for this {@link Vertex} into an existing array.<br>
+	 * Only the elements present in the {@link VertexLayout} are written.
+	 *
+	 * @param data the data, at least {@link VertexLayout#getSize()} long
+	 * @param layout the layout
+	 * @param offset the offset
+	 */
+	public void writeVertexData(int[] data, VertexLayout layout, Vec3d offset)
 	{
 		float x = (float) getX();
 		float y = (float) getY();
@@ -466,28 +513,20 @@ public class Vertex
 			z += offset.z;
 		}
 
-		int[] data = new int[vertexFormat.getIntegerSize()];
-		int index = 0;
-		//private
-		//if(vertexFormat.hasPosition())
+		data[0] = Float.floatToRawIntBits(x);
+		data[1] = Float.floatToRawIntBits(y);
+		data[2] = Float.floatToRawIntBits(z);
+		if (layout.getColor() != -1)
+			data[layout.getColor()] = getRGBA();
+		if (layout.getUv() != -1) //normal UVs
 		{
-			data[index++] = Float.floatToRawIntBits(x);
-			data[index++] = Float.floatToRawIntBits(y);
-			data[index++] = Float.floatToRawIntBits(z);
+			data[layout.getUv()] = Float.floatToRawIntBits((float) getU());
+			data[layout.getUv() + 1] = Float.floatToRawIntBits((float) getV());
 		}
-		if (vertexFormat.hasColor())
-			data[index++] = getRGBA();
-		if (vertexFormat.hasUvOffset(0)) //normal UVs
-		{
-			data[index++] = Float.floatToRawIntBits((float) getU());
-			data[index++] = Float.floatToRawIntBits((float) getV());
-		}
-		if (vertexFormat.hasUvOffset(1)) //brightness UVs
-			data[index++] = getBrightness();
-		if (vertexFormat.hasNormal())
-			data[index++] = getNormal();
-
-		return data;
+		if (layout.getLightmap() != -1) //brightness UVs
+			data[layout.getLightmap()] = getBrightness();
+		if (layout.getNormal() != -1)
+			data[layout.getNormal()] = getNormal();
 	}
 
 	private void setState(Vertex vertex)
@@ -505,12 +544,49 @@ public class Vertex
 
 	public void setInitialState()
 	{
-		initialState.setState(this);
+		if (geometry != null)
+			geometry.storeState(index);
+		else
+			initialState.setState(this);
 	}
 
 	public void resetState()
 	{
-		setState(initialState);
+		if (geometry != null)
+			geometry.resetState(index);
+		else
+			setState(initialState);
+	}
+
+	/**
+	 * Binds this {@link Vertex} to a {@link PackedGeometry}. Its current and stored values are moved into the geometry.
+	 *
+	 * @param geometry the geometry
+	 * @param index the index
+	 */
+	void bind(PackedGeometry geometry, int index)
+	{
+		if (this.geometry != null)
+			unbind(this.geometry);
+
+		geometry.set(index, this, initialState);
+		this.geometry = geometry;
+		this.index = index;
+	}
+
+	/**
+	 * Unbinds this {@link Vertex} from the {@link PackedGeometry}. Its current and stored values are moved back into the vertex.<br>
+	 * Has no effect if the vertex was bound to another geometry since.
+	 *
+	 * @param geometry the geometry
+	 */
+	void unbind(PackedGeometry geometry)
+	{
+		if (this.geometry != geometry)
+			return;
+
+		this.geometry = null;
+		geometry.read(index, this, initialState);
 	}
 
 	/**
@@ -521,6 +597,7 @@ public class Vertex
 	 */
 	public int[][] getAoMatrix(EnumFacing offset)
 	{
+		double x = getX(), y = getY(), z = getZ();
 		int[][] a = new int[3][3];
 
 		if (offset == EnumFacing.WEST || offset == EnumFacing.EAST)
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.renderer.element;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.client.renderer.vertex.VertexFormat;
+
+/**
+ * {@link VertexLayout} holds the integer indexes of each element of a {@link VertexFormat}.<br>
+ * The layout is computed once per format so writing a {@link Vertex} doesn't need to query the format for each element.
+ *
+ * @author Ordinastie
+ */
+public class VertexLayout
+{
+	private static Map<VertexFormat, VertexLayout> layouts = new ConcurrentHashMap<>();
+
+	/** Format of this layout. */
+	private final VertexFormat vertexFormat;
+	/** Number of integers per vertex. */
+	private final int size;
+	/** Index of the color, -1 if absent. */
+	private final int color;
+	/** Index of the texture UVs, -1 if absent. */
+	private final int uv;
+	/** Index of the lightmap UVs, -1 if absent. */
+	private final int lightmap;
+	/** Index of the normal, -1 if absent. */
+	private final int normal;
+
+	private VertexLayout(VertexFormat vertexFormat)
+	{
+		this.vertexFormat = vertexFormat;
+		this.size = vertexFormat.getIntegerSize();
+		this.color = vertexFormat.hasColor() ? vertexFormat.getColorOffset() / 4 : -1;
+		this.uv = vertexFormat.hasUvOffset(0) ? vertexFormat.getUvOffsetById(0) / 4 : -1;
+		this.lightmap = vertexFormat.hasUvOffset(1) ? vertexFormat.getUvOffsetById(1) / 4 : -1;
+		this.normal = vertexFormat.hasNormal() ? vertexFormat.getNormalOffset() / 4 : -1;
+	}
+
+	public VertexFormat getVertexFormat()
+	{
+		return vertexFormat;
+	}
+
+	public int getSize()
+	{
+		return size;
+	}
+
+	public int getColor()
+	{
+		return color;
+	}
+
+	public int getUv()
+	{
+		return uv;
+	}
+
+	public int getLightmap()
+	{
+		return lightmap;
+	}
+
+	public int getNormal()
+	{
+		return normal;
+	}
+
+	/**
+	 * Gets the {@link VertexLayout} for the {@link VertexFormat}.
+	 *
+	 * @param vertexFormat the vertex format
+	 * @return the vertex layout
+	 */
+	public static VertexLayout of(VertexFormat vertexFormat)
+	{
+		return layouts.computeIfAbsent(vertexFormat, VertexLayout::new);
+	}
+}
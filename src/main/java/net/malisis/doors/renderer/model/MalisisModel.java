@@ -42,6 +42,7 @@ import net.malisis.doors.renderer.MalisisRenderer;
 import net.malisis.doors.renderer.RenderParameters;
 import net.malisis.doors.renderer.animation.Animation;
 import net.malisis.doors.renderer.animation.transformation.ITransformable;
+import net.malisis.doors.renderer.element.PackedGeometry;
 import net.malisis.doors.renderer.element.Shape;
 import net.malisis.doors.renderer.model.loader.AnimationImporter;
 import net.malisis.doors.renderer.model.loader.ObjFileImporter;
@@ -62,6 +63,8 @@ public class MalisisModel implements ITransformable.Translate, ITransformable.Ro
 	protected Map<String, Shape> shapes = Maps.newHashMap();
 	/** Animations for the Shapes in this {@link MalisisModel} */
 	protected Multimap<String, Animation<Shape>> animations = ArrayListMultimap.create();
+	/** Whether the {@link Shape shapes} of this {@link MalisisModel} use a {@link PackedGeometry}. */
+	protected boolean packedGeometry = false;
 
 	/**
 	 * Instantiates a new empty {@link MalisisModel}.<br>
@@ -136,6 +139,8 @@ public class MalisisModel implements ITransformable.Translate, ITransformable.Ro
 			return;
 
 		shapes = loader.getShapes();
+		if (packedGeometry)
+			setPackedGeometry(true);
 		storeState();
 	}
 
@@ -188,6 +193,8 @@ public class MalisisModel implements ITransformable.Translate, ITransformable.Ro
 		if (shape == null)
 			return;
 
+		if (packedGeometry)
+			shape.enablePackedGeometry();
 		shapes.put(name.toLowerCase(), shape);
 	}
 
@@ -212,6 +219,37 @@ public class MalisisModel implements ITransformable.Translate, ITransformable.Ro
 		return shapes.keySet();
 	}
 
+	/**
+	 * Sets whether the {@link Shape shapes} of this {@link MalisisModel} use a {@link PackedGeometry}.<br>
+	 * Packed shapes reset and transform their vertexes with plain array operations, which is faster for models that are reset and
+	 * transformed every frame. Shapes added afterwards use the same storage.
+	 *
+	 * @param packed whether to use packed geometry
+	 * @return this {@link MalisisModel}
+	 */
+	public MalisisModel setPackedGeometry(boolean packed)
+	{
+		packedGeometry = packed;
+		for (Shape s : this)
+		{
+			if (packed)
+				s.enablePackedGeometry();
+			else
+				s.disablePackedGeometry();
+		}
+		return this;
+	}
+
+	/**
+	 * Checks whether the {@link Shape shapes} of this {@link MalisisModel} use a {@link PackedGeometry}.
+	 *
+	 * @return true, if packed
+	 */
+	public boolean isPackedGeometry()
+	{
+		return packedGeometry;
+	}
+
 	/**
 	 * Adds the {@link Animation} to this {@link MalisisModel} with default names.
 	 *
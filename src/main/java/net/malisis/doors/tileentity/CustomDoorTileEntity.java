@@ -110,4 +110,23 @@ public class CustomDoorTileEntity extends DoorTileEntity
 		CustomDoorItem.writeNBT(nbt, frame, top, bottom);
 		return nbt;
 	}
+
+	@Override
+	protected NBTTagCompound writeUpdateTag(NBTTagCompound nbt)
+	{
+		super.writeUpdateTag(nbt);
+		CustomDoorItem.writeNBT(nbt, frame, top, bottom);
+		return nbt;
+	}
+
+	@Override
+	protected void readUpdateTag(NBTTagCompound nbt)
+	{
+		super.readUpdateTag(nbt);
+
+		Triple<IBlockState, IBlockState, IBlockState> triple = CustomDoorItem.readNBT(nbt);
+		frame = triple.getLeft();
+		top = triple.getMiddle();
+		bottom = triple.getRight();
+	}
 }
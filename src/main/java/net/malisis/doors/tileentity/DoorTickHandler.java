@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.tileentity;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.malisis.doors.MalisisCommand;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.registry.AutoLoad;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * The {@link DoorTickHandler} moves idle {@link DoorTileEntity} in and out of the ticking list of their {@link World}.<br>
+ * A {@link DoorTileEntity} is only ticked while it has proximity detection, its movement and auto-close being scheduled on the
+ * {@link net.malisis.doors.util.scheduler.TickScheduler TickScheduler}.<br>
+ * The ticking list can't be modified while the world updates its tile entities, so the changes are applied at the end of the tick.
+ *
+ * @author Ordinastie
+ */
+@AutoLoad
+public class DoorTickHandler
+{
+	private static DoorTickHandler instance = new DoorTickHandler();
+
+	/** {@link DoorTileEntity} waiting to be reevaluated, server side. */
+	private Map<World, Set<DoorTileEntity>> serverPending = new HashMap<>();
+	/** {@link DoorTileEntity} waiting to be reevaluated, client side. */
+	private Set<DoorTileEntity> clientPending = new HashSet<>();
+
+	private DoorTickHandler()
+	{
+		MinecraftForge.EVENT_BUS.register(this);
+		MalisisCommand.registerDebug("doors", DoorTickHandler::debug);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase != Phase.END || event.world.isRemote)
+			return;
+
+		Set<DoorTileEntity> pending = serverPending.get(event.world);
+		if (pending != null)
+			process(event.world, pending);
+	}
+
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event)
+	{
+		if (event.phase != Phase.END || clientPending.isEmpty())
+			return;
+
+		World world = clientPending.iterator().next().getWorld();
+		process(world, clientPending);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (event.getWorld().isRemote)
+			clientPending.clear();
+		else
+			serverPending.remove(event.getWorld());
+	}
+
+	/**
+	 * Updates the ticking list of the {@link World} for the pending {@link DoorTileEntity}.
+	 *
+	 * @param world the world
+	 * @param pending the pending
+	 */
+	private void process(World world, Set<DoorTileEntity> pending)
+	{
+		if (pending.isEmpty())
+			return;
+
+		//local to each call, as the client and the integrated server process their worlds at the same time
+		Set<TileEntity> sleeping = new HashSet<>();
+		Set<TileEntity> waking = new HashSet<>();
+		for (DoorTileEntity te : pending)
+		{
+			if (te.isInvalid() || te.getWorld() != world)
+				continue;
+
+			if (te.isIdle())
+			{
+				sleeping.add(te);
+				te.dormant = true;
+			}
+			else if (te.dormant)
+			{
+				waking.add(te);
+				te.dormant = false;
+			}
+		}
+		pending.clear();
+
+		if (!sleeping.isEmpty())
+			world.tickableTileEntities.removeAll(sleeping);
+		if (!waking.isEmpty())
+			world.tickableTileEntities.addAll(waking);
+	}
+
+	/**
+	 * Schedules the {@link DoorTileEntity} to be put to sleep or woken up at the end of the current tick, depending on its state.
+	 *
+	 * @param te the te
+	 */
+	public static void schedule(DoorTileEntity te)
+	{
+		World world = te.getWorld();
+		if (world == null)
+			return;
+
+		if (world.isRemote)
+			instance.clientPending.add(te);
+		else
+			instance.serverPending.computeIfAbsent(world, w -> new HashSet<>()).add(te);
+	}
+
+	/**
+	 * Displays the number of active and dormant {@link DoorTileEntity} for each loaded server world.
+	 */
+	public static void debug()
+	{
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+		if (server == null)
+			return;
+
+		for (WorldServer world : server.worlds)
+		{
+			int active = 0;
+			int dormant = 0;
+			for (TileEntity te : world.loadedTileEntityList)
+			{
+				if (!(te instanceof DoorTileEntity))
+					continue;
+				if (((DoorTileEntity) te).dormant)
+					dormant++;
+				else
+					active++;
+			}
+			MalisisDoors.message("Doors in dimension %s : %s active, %s dormant", world.provider.getDimension(), active, dormant);
+		}
+	}
+}
@@ -24,7 +24,6 @@
 
 package net.malisis.doors.tileentity;
 
-import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -34,10 +33,16 @@ import com.google.common.collect.ImmutableMap;
 import net.malisis.doors.util.AABBUtils;
 import net.malisis.doors.util.TileEntityUtils;
 import net.malisis.doors.util.Timer;
+import net.malisis.doors.util.chunkcollision.ChunkCollision;
+import net.malisis.doors.util.proximity.IProximityListener;
+import net.malisis.doors.util.proximity.ProximityHandler;
+import net.malisis.doors.util.scheduler.TickScheduler;
+import net.malisis.doors.util.scheduler.TimingWheel.Task;
 import net.malisis.doors.util.syncer.Sync;
 import net.malisis.doors.util.syncer.Syncable;
 import net.malisis.doors.util.syncer.Syncer;
 import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorDescriptorTable;
 import net.malisis.doors.DoorState;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.movement.IDoorMovement;
@@ -45,7 +50,6 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.properties.PropertyBool;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
@@ -64,7 +68,7 @@ import net.minecraft.world.World;
  *
  */
 @Syncable("TileEntity")
-public class DoorTileEntity extends TileEntity implements ITickable
+public class DoorTileEntity extends TileEntity implements ITickable, IProximityListener
 {
 	//Door direction is vanilla. Logic is reversed from regular MalisisCore direction/rotation
 	private static final AxisAlignedBB BASE = new AxisAlignedBB(0, 0, -1, 1, 2, 3);
@@ -80,11 +84,22 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	protected DoorDescriptor descriptor;
 	protected int lastMetadata = -1;
 	protected Timer timer = new Timer(0);
+	/** {@link TickScheduler} tick at which the current movement started. */
+	protected long moveStart;
+	protected Task movementTask;
+	protected Task autoCloseTask;
 	protected DoorState state = DoorState.CLOSED;
 	protected boolean moving;
 	protected boolean centered = false;
 	protected PropertyBool openProperty = BlockDoor.OPEN;
 	protected boolean powered = false;
+	protected boolean proximityRegistered = false;
+	protected boolean playerInRange = false;
+	/** Whether this {@link DoorTileEntity} was removed from the ticking list by the {@link DoorTickHandler}. */
+	protected boolean dormant = false;
+	/** Cached matching double door, only valid if {@link #doubleDoorResolved}. */
+	protected DoorTileEntity doubleDoor;
+	protected boolean doubleDoorResolved = false;
 
 	//#region Getter/Setter
 	public DoorDescriptor getDescriptor()
@@ -103,7 +118,9 @@ public class DoorTileEntity extends TileEntity implements ITickable
 
 	public void setDescriptor(DoorDescriptor descriptor)
 	{
-		this.descriptor = descriptor;
+		this.descriptor = DoorDescriptor.intern(descriptor);
+		invalidateDoubleDoor();
+		wakeUp();
 	}
 
 	public Timer getTimer()
@@ -208,6 +225,32 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return te != null && te.isPowered();
 	}
 
+	/**
+	 * Checks whether this {@link DoorTileEntity} has nothing to do when ticked.<br>
+	 * Idle doors are removed from the ticking list by the {@link DoorTickHandler}.
+	 *
+	 * @return true, if idle
+	 */
+	public boolean isIdle()
+	{
+		//end of movement and auto-close are scheduled, only proximity detection needs ticking
+		return !getDescriptor().hasProximityDetection();
+	}
+
+	public boolean isDormant()
+	{
+		return dormant;
+	}
+
+	/**
+	 * Schedules this {@link DoorTileEntity} to be put back in the ticking list if it's dormant and not idle anymore.
+	 */
+	protected void wakeUp()
+	{
+		if (dormant && !isIdle())
+			DoorTickHandler.schedule(this);
+	}
+
 	public boolean isCentered()
 	{
 		return centered;
@@ -306,19 +349,27 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		if (getWorld() == null)
 			return;
 
+		ChunkCollision.get().invalidate(world, pos);
+
+		long tick = TickScheduler.getTick(world);
 		if (state == DoorState.CLOSING || state == DoorState.OPENING)
 		{
 			if (moving)
 			{
 				long s = timer.elapsedTime() - Timer.tickToTime(getOpeningTime());
 				timer.setRelativeStart(s);
+				moveStart = tick - Math.max(0, getOpeningTime() - (tick - moveStart));
 			}
 			else
 			{
 				timer.start();
+				moveStart = tick;
 				moving = true;
 			}
 
+			cancelTasks();
+			movementTask = TickScheduler.schedule(world, moveStart + getOpeningTime() + 1 - tick, this::onMovementEnd);
+
 			if (!world.isRemote)
 				Syncer.sync(this, "state");
 
@@ -329,11 +380,67 @@ public class DoorTileEntity extends TileEntity implements ITickable
 			if (state != null)
 				world.setBlockState(pos, state.withProperty(openProperty, newState == DoorState.OPENED));
 			moving = false;
+			cancelTasks();
+			if (newState == DoorState.OPENED)
+				scheduleAutoClose(moveStart + getDescriptor().getAutoCloseTime() + 1 - tick);
 		}
 
+		wakeUp();
 		playSound();
 	}
 
+	/**
+	 * Schedules the auto-close of this {@link DoorTileEntity}, if its descriptor has an auto-close time.
+	 *
+	 * @param delay the delay
+	 */
+	protected void scheduleAutoClose(long delay)
+	{
+		if (world.isRemote || getDescriptor().getAutoCloseTime() <= 0)
+			return;
+
+		autoCloseTask = TickScheduler.schedule(world, delay, this::onAutoClose);
+	}
+
+	/**
+	 * Cancels the end of movement and auto-close tasks of this {@link DoorTileEntity}.
+	 */
+	protected void cancelTasks()
+	{
+		if (movementTask != null)
+			movementTask.cancel();
+		if (autoCloseTask != null)
+			autoCloseTask.cancel();
+		movementTask = null;
+		autoCloseTask = null;
+	}
+
+	/**
+	 * Called by the {@link TickScheduler} when the animation is finished to update the state (current door only).
+	 */
+	protected void onMovementEnd()
+	{
+		movementTask = null;
+		if (!isInvalid() && moving)
+			setDoorState(getState() == DoorState.CLOSING ? DoorState.CLOSED : DoorState.OPENED);
+	}
+
+	/**
+	 * Called by the {@link TickScheduler} when it's time to auto-close, close doors.<br>
+	 * If a player is still in proximity, the auto-close is scheduled again instead.
+	 */
+	protected void onAutoClose()
+	{
+		autoCloseTask = null;
+		if (isInvalid())
+			return;
+
+		if (getDescriptor().hasProximityDetection() && (hasPlayer() || doubleDoorHasPlayer()))
+			scheduleAutoClose(getDescriptor().getAutoCloseTime());
+		else
+			close();
+	}
+
 	/**
 	 * Play sound for the block
 	 */
@@ -351,13 +458,50 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	}
 
 	/**
-	 * Find the corresponding double door for this DoorTileEntity.
+	 * Gets the corresponding double door for this DoorTileEntity.<br>
+	 * The pairing is resolved once and cached on both doors until {@link #invalidateDoubleDoor()} is called.
 	 *
 	 * @return the double door
 	 */
 	public DoorTileEntity getDoubleDoor()
 	{
-		if (!getDescriptor().isDoubleDoor())
+		if (doubleDoorResolved && (doubleDoor == null || !doubleDoor.isInvalid()))
+			return doubleDoor;
+
+		doubleDoor = findDoubleDoor();
+		doubleDoorResolved = true;
+		//link back if the other door has no pairing yet
+		if (doubleDoor != null && doubleDoor.doubleDoor == null)
+		{
+			doubleDoor.doubleDoor = this;
+			doubleDoor.doubleDoorResolved = true;
+		}
+		return doubleDoor;
+	}
+
+	/**
+	 * Clears the cached double door for this DoorTileEntity and the door it was paired with.<br>
+	 * Called when a neighbor changes or this DoorTileEntity is removed.
+	 */
+	public void invalidateDoubleDoor()
+	{
+		if (doubleDoor != null && doubleDoor.doubleDoor == this)
+		{
+			doubleDoor.doubleDoor = null;
+			doubleDoor.doubleDoorResolved = false;
+		}
+		doubleDoor = null;
+		doubleDoorResolved = false;
+	}
+
+	/**
+	 * Find the corresponding double door for this DoorTileEntity.
+	 *
+	 * @return the double door
+	 */
+	protected DoorTileEntity findDoubleDoor()
+	{
+		if (world == null || !getDescriptor().isDoubleDoor())
 			return null;
 
 		EnumFacing offset = getDirection().rotateYCCW();
@@ -421,8 +565,7 @@ public class DoorTileEntity extends TileEntity implements ITickable
 
 	protected boolean hasPlayer()
 	{
-		List<EntityPlayer> list = world.getEntitiesWithinAABB(EntityPlayer.class, DETECT.get(getDirection()).offset(getPos()));
-		return list != null && !list.isEmpty();
+		return playerInRange;
 	}
 
 	protected boolean doubleDoorHasPlayer()
@@ -431,12 +574,63 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return te != null && te.hasPlayer();
 	}
 
+	//#region IProximityListener
+	@Override
+	public AxisAlignedBB getProximityBox()
+	{
+		return DETECT.get(getDirection()).offset(getPos());
+	}
+
+	@Override
+	public boolean isProximityValid()
+	{
+		return !isInvalid() && proximityRegistered;
+	}
+
+	@Override
+	public void onPlayerEnter()
+	{
+		playerInRange = true;
+	}
+
+	@Override
+	public void onPlayerLeave()
+	{
+		playerInRange = false;
+	}
+
+	/**
+	 * Registers this {@link DoorTileEntity} to the {@link ProximityHandler} if its descriptor has proximity detection.
+	 */
+	protected void registerProximity()
+	{
+		if (proximityRegistered || world.isRemote || !getDescriptor().hasProximityDetection())
+			return;
+
+		ProximityHandler.register(world, this);
+		proximityRegistered = true;
+	}
+
+	/**
+	 * Unregisters this {@link DoorTileEntity} from the {@link ProximityHandler}.
+	 */
+	protected void unregisterProximity()
+	{
+		if (!proximityRegistered)
+			return;
+
+		ProximityHandler.unregister(world, this);
+		proximityRegistered = false;
+		playerInRange = false;
+	}
+
+	//#end IProximityListener
+
 	@Override
 	public void update()
 	{
-		//animation finished, update state (current door only)
-		if (moving && timer.elapsedTick() > getOpeningTime())
-			setDoorState(getState() == DoorState.CLOSING ? DoorState.CLOSED : DoorState.OPENED);
+		//if we're ticked, we're in the ticking list
+		dormant = false;
 
 		//door is powered, open doors
 		//		if (isPowered() || isDoubleDoorPowered())
@@ -446,18 +640,16 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		//		}
 
 		//door has player in proximity, open doors
+		registerProximity();
 		if (getDescriptor().hasProximityDetection() && (hasPlayer() || doubleDoorHasPlayer()))
 		{
 			open();
 			return;
 		}
 
-		//time to auto-close, close doors
-		if (getDescriptor().getAutoCloseTime() > 0 && timer.elapsedTick() > getDescriptor().getAutoCloseTime())
-		{
-			close();
-			return;
-		}
+		//nothing left to do, stop ticking
+		if (isIdle())
+			DoorTickHandler.schedule(this);
 	}
 
 	//#region NBT/Network
@@ -467,7 +659,7 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		super.readFromNBT(nbt);
 
 		//if (descriptor == null)
-		descriptor = new DoorDescriptor(nbt);
+		descriptor = DoorDescriptor.intern(new DoorDescriptor(nbt));
 		setDoorState(DoorState.values()[nbt.getInteger("state")]);
 		setCentered(nbt.getBoolean("centered"));
 	}
@@ -484,24 +676,61 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return nbt;
 	}
 
+	/**
+	 * Writes the data sent to the clients.<br>
+	 * Only the id of the descriptor from the {@link DoorDescriptorTable} is sent, along with the state.
+	 *
+	 * @param nbt the nbt
+	 * @return the nbt
+	 */
+	protected NBTTagCompound writeUpdateTag(NBTTagCompound nbt)
+	{
+		nbt.setInteger("descriptorId", DoorDescriptorTable.getId(getDescriptor()));
+		nbt.setByte("stateBits", (byte) (state.ordinal() | (centered ? 4 : 0)));
+		return nbt;
+	}
+
+	/**
+	 * Reads the data received from the server.
+	 *
+	 * @param nbt the nbt
+	 */
+	protected void readUpdateTag(NBTTagCompound nbt)
+	{
+		DoorDescriptor desc = DoorDescriptorTable.get(nbt.getInteger("descriptorId"), this);
+		if (desc != null && desc != descriptor)
+		{
+			descriptor = desc;
+			invalidateDoubleDoor();
+		}
+
+		int bits = nbt.getByte("stateBits");
+		setDoorState(DoorState.values()[bits & 3]);
+		setCentered((bits & 4) != 0);
+	}
+
 	@Override
 	public NBTTagCompound getUpdateTag()
 	{
-		return writeToNBT(new NBTTagCompound());
+		return writeUpdateTag(super.getUpdateTag());
+	}
+
+	@Override
+	public void handleUpdateTag(NBTTagCompound tag)
+	{
+		readUpdateTag(tag);
 	}
 
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket()
 	{
-		NBTTagCompound nbt = new NBTTagCompound();
-		this.writeToNBT(nbt);
-		return new SPacketUpdateTileEntity(pos, 0, nbt);
+		return new SPacketUpdateTileEntity(pos, 0, writeUpdateTag(new NBTTagCompound()));
 	}
 
 	@Override
 	public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity packet)
 	{
-		this.readFromNBT(packet.getNbtCompound());
+		readUpdateTag(packet.getNbtCompound());
 	}
 
 	//#end NBT/Network
@@ -515,9 +744,38 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return new AxisAlignedBB(pos, pos.add(1, 2, 1));
 	}
 
+	@Override
+	public void onLoad()
+	{
+		ChunkCollision.get().invalidate(world, pos);
+		//door loaded opened, auto-close right away
+		if (state == DoorState.OPENED && autoCloseTask == null)
+			scheduleAutoClose(1);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		unregisterProximity();
+		cancelTasks();
+		invalidateDoubleDoor();
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		unregisterProximity();
+		cancelTasks();
+		invalidateDoubleDoor();
+	}
+
 	@Override
 	public boolean shouldRefresh(World world, BlockPos pos, IBlockState oldState, IBlockState newState)
 	{
+		//state changed, the matching conditions may have too
+		if (oldState != newState)
+			invalidateDoubleDoor();
 		return oldState.getBlock() != newState.getBlock();
 	}
 }
@@ -155,7 +155,13 @@ public class FenceGateTileEntity extends DoorTileEntity
 	@Override
 	public FenceGateTileEntity getDoubleDoor()
 	{
-		if (!descriptor.isDoubleDoor())
+		return (FenceGateTileEntity) super.getDoubleDoor();
+	}
+
+	@Override
+	protected FenceGateTileEntity findDoubleDoor()
+	{
+		if (world == null || !descriptor.isDoubleDoor())
 			return null;
 
 		if (!(getBlockState().getBlock() instanceof FenceGate)) //for some reason, this get called when the block at the position is not a FenceGate
@@ -44,7 +44,7 @@ public class TrapDoorTileEntity extends DoorTileEntity
 	}
 
 	@Override
-	public DoorTileEntity getDoubleDoor()
+	protected DoorTileEntity findDoubleDoor()
 	{
 		return null;
 	}
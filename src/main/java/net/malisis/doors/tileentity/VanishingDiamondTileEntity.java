@@ -44,6 +44,7 @@ import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
+import net.minecraft.util.ITickable;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -51,7 +52,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  * @author Ordinastie
  *
  */
-public class VanishingDiamondTileEntity extends VanishingTileEntity implements IDirectInventoryProvider
+public class VanishingDiamondTileEntity extends VanishingTileEntity implements IDirectInventoryProvider, ITickable
 {
 	protected int changedPowerStateTimer;
 	protected VanishingOptions vanishingOptions = new VanishingOptions();
@@ -149,7 +150,6 @@ public class VanishingDiamondTileEntity extends VanishingTileEntity implements I
 	{
 		changedPowerStateTimer++;
 		vanishingOptions.propagateState(world, pos, changedPowerStateTimer, powered);
-		super.update();
 	}
 
 	@Subscribe
@@ -34,6 +34,8 @@ import net.malisis.doors.util.ItemUtils;
 import net.malisis.doors.util.MBlockState;
 import net.malisis.doors.util.Silenced;
 import net.malisis.doors.util.TileEntityUtils;
+import net.malisis.doors.util.scheduler.TickScheduler;
+import net.malisis.doors.util.scheduler.TimingWheel.Task;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -46,11 +48,11 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.EnumParticleTypes;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
-public class VanishingTileEntity extends TileEntity implements ITickable
+public class VanishingTileEntity extends TileEntity
 {
 	public final static int maxTransitionTime = 8;
 	public final static int maxVibratingTime = 15;
@@ -63,6 +65,9 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 	protected int duration = maxTransitionTime;
 	protected int transitionTimer;
 	protected boolean inTransition;
+	/** {@link TickScheduler} tick at which {@link #transitionTimer} was last set. */
+	protected long transitionStart;
+	protected Task transitionTask;
 
 	private Block[] excludes = new Block[] {	MalisisDoors.Blocks.vanishingBlock,
 												Blocks.AIR,
@@ -77,7 +82,6 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 	public VanishingTileEntity()
 	{
 		this.frameType = VanishingBlock.Type.WOOD;
-		ProxyAccess.get(getWorld());
 	}
 
 	public VanishingTileEntity(VanishingBlock.Type frameType)
@@ -117,7 +121,11 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 
 	public int getTransitionTimer()
 	{
-		return transitionTimer;
+		if (!inTransition || world == null)
+			return transitionTimer;
+
+		int elapsed = (int) (TickScheduler.getTick(world) - transitionStart);
+		return MathHelper.clamp(transitionTimer + (powered ? elapsed : -elapsed), 0, getDuration());
 	}
 
 	public void setBlockState(IBlockState state)
@@ -129,7 +137,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 	{
 		ItemStack is = null;
 		if (copiedState != null)
-			is = copiedState.getBlock().getPickBlock(copiedState, null, ((World) ProxyAccess.get(world)), pos, player);
+			is = copiedState.getBlock().getPickBlock(copiedState, null, ProxyAccess.getWorld(world), pos, player);
 
 		if (!setBlockState(itemStack, player, hand, side, hitX, hitY, hitZ))
 			return false;
@@ -142,7 +150,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		if (!player.capabilities.isCreativeMode)
 			itemStack.shrink(1);
 
-		((World) ProxyAccess.get(world)).notifyNeighborsOfStateChange(pos, getCopiedState().getBlock(), true);
+		ProxyAccess.getWorld(world).notifyNeighborsOfStateChange(pos, getCopiedState().getBlock(), true);
 		return true;
 	}
 
@@ -160,7 +168,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		if (state == null || ArrayUtils.contains(excludes, state.getBlock()))
 			return false;
 
-		World proxy = (World) ProxyAccess.get(getWorld());
+		World proxy = ProxyAccess.getWorld(getWorld());
 		copiedState = state;
 		initCopiedTileEntity();
 		Silenced.exec(() -> {
@@ -178,7 +186,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		copiedTileEntity = copiedState.getBlock().createTileEntity(getWorld(), copiedState);
 		if (copiedTileEntity != null)
 		{
-			copiedTileEntity.setWorld((World) ProxyAccess.get(getWorld()));
+			copiedTileEntity.setWorld(ProxyAccess.getWorld(getWorld()));
 			copiedTileEntity.setPos(pos);
 		}
 	}
@@ -194,10 +202,10 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		if (powered == this.powered)
 			return false;
 
-		if (!inTransition)
-			this.transitionTimer = powered ? 0 : getDuration();
+		this.transitionTimer = inTransition ? getTransitionTimer() : powered ? 0 : getDuration();
 		this.powered = powered;
 		this.inTransition = true;
+		scheduleTransitionEnd();
 		//will probably break
 		world.setBlockState(pos, getWorld().getBlockState(pos).withProperty(VanishingBlock.TRANSITION, true));
 
@@ -207,42 +215,63 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		return true;
 	}
 
-	@Override
-	public void update() {
-		
-		if (!inTransition && !powered) {
-			if (!world.isRemote) {
-				return;
-			}
-		}
-		else if (inTransition) {
+	/**
+	 * Schedules the end of the current transition on the {@link TickScheduler}.
+	 */
+	protected void scheduleTransitionEnd()
+	{
+		if (transitionTask != null)
+			transitionTask.cancel();
+		transitionTask = null;
+		if (!inTransition || world == null)
+			return;
+
+		transitionStart = TickScheduler.getTick(world);
+		transitionTask = TickScheduler.schedule(world, powered ? getDuration() - transitionTimer : transitionTimer, this::onTransitionEnd);
+	}
 
-			if (powered) // powering => going invisible
-			{
-				transitionTimer++;
-				if (transitionTimer >= getDuration())
-				{
-					inTransition = false;
-					world.spawnParticle(EnumParticleTypes.SMOKE_NORMAL,
-										pos.getX() + 0.5F,
-										pos.getY() + 0.5F,
-										pos.getZ() + 0.5F,
-										0.0F,
-										0.0F,
-										0.0F);
-				}
-			}
-			else
-			// shutting down => going visible
-			{
-				transitionTimer--;
-				if (transitionTimer <= 0)
-				{
-					inTransition = false;
-					TileEntityUtils.notifyUpdate(this);
-				}
-			}
+	/**
+	 * Called by the {@link TickScheduler} when the transition is over.
+	 */
+	protected void onTransitionEnd()
+	{
+		transitionTask = null;
+		if (isInvalid())
+			return;
+
+		inTransition = false;
+		if (powered) // powering => going invisible
+		{
+			transitionTimer = getDuration();
+			world.spawnParticle(EnumParticleTypes.SMOKE_NORMAL, pos.getX() + 0.5F, pos.getY() + 0.5F, pos.getZ() + 0.5F, 0.0F, 0.0F, 0.0F);
 		}
+		else
+		// shutting down => going visible
+		{
+			transitionTimer = 0;
+			TileEntityUtils.notifyUpdate(this);
+		}
+	}
+
+	@Override
+	public void onLoad()
+	{
+		scheduleTransitionEnd();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		if (transitionTask != null)
+			transitionTask.cancel();
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		if (transitionTask != null)
+			transitionTask.cancel();
 	}
 
 	@Override
@@ -269,6 +298,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		duration = nbt.getInteger("Duration");
 		inTransition = nbt.getBoolean("InTransition");
 		transitionTimer = nbt.getInteger("TransitionTimer");
+		scheduleTransitionEnd();
 	}
 
 	@Override
@@ -289,7 +319,7 @@ public class VanishingTileEntity extends TileEntity implements ITickable
 		nbt.setBoolean("Powered", powered);
 		nbt.setInteger("Duration", getDuration());
 		nbt.setBoolean("InTransition", inTransition);
-		nbt.setInteger("TransitionTimer", transitionTimer);
+		nbt.setInteger("TransitionTimer", getTransitionTimer());
 		return nbt;
 	}
 
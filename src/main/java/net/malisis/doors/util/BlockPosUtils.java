@@ -28,6 +28,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 
 /**
  * Utility class to handle different interactions with {@link BlockPos}.
@@ -80,6 +81,51 @@ public class BlockPosUtils
 				new BlockPos(Math.ceil(aabb.maxX) - 1, Math.ceil(aabb.maxY) - 1, Math.ceil(aabb.maxZ) - 1));
 	}
 
+	/**
+	 * Gets the X coordinate of a position encoded with {@link BlockPos#toLong()}.
+	 *
+	 * @param coord the coord
+	 * @return the x
+	 */
+	public static int getX(long coord)
+	{
+		return (int) (coord >> 38);
+	}
+
+	/**
+	 * Gets the Y coordinate of a position encoded with {@link BlockPos#toLong()}.
+	 *
+	 * @param coord the coord
+	 * @return the y
+	 */
+	public static int getY(long coord)
+	{
+		return (int) (coord << 26 >> 52);
+	}
+
+	/**
+	 * Gets the Z coordinate of a position encoded with {@link BlockPos#toLong()}.
+	 *
+	 * @param coord the coord
+	 * @return the z
+	 */
+	public static int getZ(long coord)
+	{
+		return (int) (coord << 38 >> 38);
+	}
+
+	/**
+	 * Sets the {@link MutableBlockPos} to the position encoded with {@link BlockPos#toLong()}, without allocating.
+	 *
+	 * @param pos the pos
+	 * @param coord the coord
+	 * @return the mutable block pos
+	 */
+	public static MutableBlockPos fromLong(MutableBlockPos pos, long coord)
+	{
+		return pos.setPos(getX(coord), getY(coord), getZ(coord));
+	}
+
 	public static ByteBuf toBytes(BlockPos pos)
 	{
 		ByteBuf buf = Unpooled.buffer(8);
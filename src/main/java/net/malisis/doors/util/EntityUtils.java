@@ -24,17 +24,12 @@
 
 package net.malisis.doors.util;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import org.apache.commons.lang3.ArrayUtils;
 
-import com.google.common.collect.Lists;
-
-import net.malisis.doors.MalisisDoors;
-import net.malisis.doors.asm.AsmUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
@@ -76,21 +71,6 @@ public class EntityUtils
 																EnumFacing.UP,
 																EnumFacing.DOWN };
 
-	private static Field playersWatchingChunk;
-	static
-	{
-		try
-		{
-			Class<?> clazz = Class.forName("net.minecraft.server.management.PlayerChunkMapEntry");
-			playersWatchingChunk = AsmUtils.changeFieldAccess(clazz, "players", "field_187283_c");
-		}
-		catch (ClassNotFoundException e)
-		{
-			MalisisDoors.log.error("Failed to get PlayerChunkMap class.", e);
-		}
-
-	}
-
 	/**
 	 * Eject a new item corresponding to the {@link ItemStack}.
 	 *
@@ -234,24 +214,10 @@ public class EntityUtils
 	 * @param z the z
 	 * @return the players watching chunk
 	 */
-	@SuppressWarnings("unchecked")
 	public static List<EntityPlayerMP> getPlayersWatchingChunk(WorldServer world, int x, int z)
 	{
-		if (playersWatchingChunk == null)
-			return new ArrayList<>();
-
-		try
-		{
-			PlayerChunkMapEntry entry = world.getPlayerChunkMap().getEntry(x, z);
-			if (entry == null)
-				return Lists.newArrayList();
-			return (List<EntityPlayerMP>) playersWatchingChunk.get(entry);
-		}
-		catch (ReflectiveOperationException e)
-		{
-			MalisisDoors.log.info("Failed to get players watching chunk :", e);
-			return new ArrayList<>();
-		}
+		PlayerChunkMapEntry entry = world.getPlayerChunkMap().getEntry(x, z);
+		return entry != null ? entry.players : Collections.emptyList();
 	}
 
 	/**
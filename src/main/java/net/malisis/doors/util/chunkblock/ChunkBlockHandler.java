@@ -26,14 +26,16 @@ package net.malisis.doors.util.chunkblock;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Sets;
 
 import gnu.trove.procedure.TLongProcedure;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.malisis.doors.MalisisDoors;
@@ -43,10 +45,10 @@ import net.malisis.doors.registry.MalisisRegistry;
 import net.malisis.doors.util.MBlockPos;
 import net.malisis.doors.util.MBlockState;
 import net.malisis.doors.util.Utils;
-import net.malisis.doors.util.WeakNested;
 import net.malisis.doors.util.callback.CallbackResult;
 import net.malisis.doors.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.util.callback.ICallback.Priority;
+import net.malisis.doors.util.chunkcollision.ChunkCollision;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -55,7 +57,9 @@ import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 /**
@@ -70,8 +74,7 @@ public class ChunkBlockHandler
 {
 	private static ChunkBlockHandler instance = new ChunkBlockHandler();
 
-	private WeakNested.Set<Chunk, BlockPos> serverChunks = new WeakNested.Set<>(Sets::newHashSet);
-	private WeakNested.Set<Chunk, BlockPos> clientChunks = new WeakNested.Set<>(Sets::newHashSet);
+	private Map<World, ChunkCoordsMap> worlds = new ConcurrentHashMap<>();
 
 	//	private Map<Chunk, List<BlockPos>> serverChunks = new WeakHashMap<>();
 	//	private Map<Chunk, List<BlockPos>> clientChunks = new WeakHashMap<>();
@@ -79,12 +82,47 @@ public class ChunkBlockHandler
 	public ChunkBlockHandler()
 	{
 		MinecraftForge.EVENT_BUS.register(this);
-		MalisisRegistry.onPreSetBlock(this::handleChunkBlock, CallbackOption.of(Priority.LOWEST));
+		MalisisRegistry.onPreSetBlock(this::handleChunkBlock,
+				block -> IComponent.getComponent(IChunkBlock.class, block) != null,
+				CallbackOption.of(Priority.LOWEST));
 	}
 
-	public WeakNested.Set<Chunk, BlockPos> chunks(Chunk chunk)
+	/**
+	 * Gets the {@link ChunkCoordsMap} for the {@link World} of the {@link Chunk}.
+	 *
+	 * @param chunk the chunk
+	 * @return the chunk coords map
+	 */
+	public ChunkCoordsMap chunks(Chunk chunk)
+	{
+		return chunks(chunk.getWorld());
+	}
+
+	/**
+	 * Gets the {@link ChunkCoordsMap} for the {@link World}.
+	 *
+	 * @param world the world
+	 * @return the chunk coords map
+	 */
+	public ChunkCoordsMap chunks(World world)
 	{
-		return chunk.getWorld().isRemote ? clientChunks : serverChunks;
+		ChunkCoordsMap map = worlds.get(world);
+		if (map == null)
+			map = worlds.computeIfAbsent(world, w -> new ChunkCoordsMap());
+		return map;
+	}
+
+	/**
+	 * Executes the {@link TLongProcedure} for every coordinate stored in the {@link Chunk}.<br>
+	 * Coordinates are passed as {@link BlockPos#toLong()} and no allocation is made during the iteration.
+	 *
+	 * @param chunk the chunk
+	 * @param procedure the procedure
+	 * @return false if the procedure stopped the iteration
+	 */
+	public boolean forEachCoord(Chunk chunk, TLongProcedure procedure)
+	{
+		return chunks(chunk).forEach(chunk, procedure);
 	}
 
 	/**
@@ -130,11 +168,17 @@ public class ChunkBlockHandler
 	{
 		IChunkBlock cb = IComponent.getComponent(IChunkBlock.class, oldState.getBlock());
 		if (cb != null)
+		{
 			removeCoord(chunk.getWorld(), pos, cb.blockRange());
+			ChunkCollision.get().invalidate(chunk.getWorld(), pos);
+		}
 		//TODO: use post ?
 		cb = IComponent.getComponent(IChunkBlock.class, newState.getBlock());
 		if (cb != null)
+		{
 			addCoord(chunk.getWorld(), pos, cb.blockRange());
+			ChunkCollision.get().invalidate(chunk.getWorld(), pos);
+		}
 		return CallbackResult.noResult();
 	}
 
@@ -158,7 +202,7 @@ public class ChunkBlockHandler
 	 */
 	private void addCoord(Chunk chunk, BlockPos pos)
 	{
-		chunks(chunk).add(chunk, pos);
+		chunks(chunk).add(chunk, pos.toLong());
 	}
 
 	/**
@@ -181,7 +225,7 @@ public class ChunkBlockHandler
 	 */
 	private void removeCoord(Chunk chunk, BlockPos pos)
 	{
-		chunks(chunk).remove(chunk, pos);
+		chunks(chunk).remove(chunk, pos.toLong());
 	}
 
 	//#end updateCoordinates
@@ -197,7 +241,10 @@ public class ChunkBlockHandler
 	public void onDataLoad(ChunkDataEvent.Load event)
 	{
 		if (event.getData().hasKey("chunkNotifier"))
+		{
 			chunks(event.getChunk()).addAll(event.getChunk(), readLongArray(event.getData()));
+			ChunkCollision.get().getBoundsCache().invalidateChunks(event.getWorld());
+		}
 	}
 
 	/**
@@ -209,9 +256,39 @@ public class ChunkBlockHandler
 	@SubscribeEvent
 	public void onDataSave(ChunkDataEvent.Save event)
 	{
-		Set<BlockPos> coords = chunks(event.getChunk()).get(event.getChunk());
+		TLongSet coords = chunks(event.getChunk()).get(event.getChunk());
 		if (!coords.isEmpty())
 			writeLongArray(event.getData(), coords);
+
+		//unload coordinates on save because saving is called after unload
+		if (event.getChunk().unloadQueued)
+			chunks(event.getChunk()).removeChunk(event.getChunk());
+	}
+
+	/**
+	 * Called when a {@link Chunk} is unloaded.<br>
+	 * Releases the coordinates stored for the Chunk on the client only, because unloading happens before saving on the server.
+	 *
+	 * @param event the event
+	 */
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		//only unload on client, server unloads on save
+		if (event.getWorld().isRemote)
+			chunks(event.getChunk()).removeChunk(event.getChunk());
+	}
+
+	/**
+	 * Called when a {@link World} is unloaded.<br>
+	 * Releases all the coordinates stored for that world.
+	 *
+	 * @param event the event
+	 */
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		worlds.remove(event.getWorld());
 	}
 
 	/**
@@ -222,12 +299,12 @@ public class ChunkBlockHandler
 	 * @param compound the compound
 	 * @return the long[]
 	 */
-	private Set<BlockPos> readLongArray(NBTTagCompound compound)
+	private TLongSet readLongArray(NBTTagCompound compound)
 	{
 		ByteBuf bytes = Unpooled.copiedBuffer(compound.getByteArray("chunkNotifier"));
-		Set<BlockPos> set = Sets.newHashSet();
+		TLongSet set = new TLongHashSet(bytes.capacity() / 8);
 		for (int i = 0; i < bytes.capacity() / 8; i++)
-			set.add(BlockPos.fromLong(bytes.readLong()));
+			set.add(bytes.readLong());
 		return set;
 	}
 
@@ -239,10 +316,13 @@ public class ChunkBlockHandler
 	 * @param compound the compound
 	 * @param longs the longs
 	 */
-	private void writeLongArray(NBTTagCompound compound, Set<BlockPos> set)
+	private void writeLongArray(NBTTagCompound compound, TLongSet set)
 	{
 		ByteBuf bytes = Unpooled.buffer(set.size() * 8);
-		set.forEach(p -> bytes.writeLong(p.toLong()));
+		set.forEach(l -> {
+			bytes.writeLong(l);
+			return true;
+		});
 		compound.setByteArray("chunkNotifier", bytes.array());
 	}
 
@@ -256,7 +336,7 @@ public class ChunkBlockHandler
 	public void onChunkWatched(ChunkWatchEvent.Watch event)
 	{
 		Chunk chunk = event.getPlayer().world.getChunkFromChunkCoords(event.getChunk().x, event.getChunk().z);
-		Set<BlockPos> coords = chunks(chunk).get(chunk);
+		TLongSet coords = chunks(chunk).get(chunk);
 		if (!coords.isEmpty())
 			ChunkBlockMessage.sendCoords(chunk, coords, event.getPlayer());
 	}
@@ -269,10 +349,11 @@ public class ChunkBlockHandler
 	 * @param chunkZ the chunk z
 	 * @param coords the coords
 	 */
-	public void setCoords(int chunkX, int chunkZ, Set<BlockPos> coords)
+	public void setCoords(int chunkX, int chunkZ, TLongSet coords)
 	{
 		Chunk chunk = Utils.getClientWorld().getChunkFromChunkCoords(chunkX, chunkZ);
 		chunks(chunk).addAll(chunk, coords);
+		ChunkCollision.get().getBoundsCache().invalidateChunks(chunk.getWorld());
 	}
 
 	//#end Events
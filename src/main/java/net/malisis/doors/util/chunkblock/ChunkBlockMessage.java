@@ -24,16 +24,13 @@
 
 package net.malisis.doors.util.chunkblock;
 
-import java.util.Set;
-
-import com.google.common.collect.Sets;
-
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import io.netty.buffer.ByteBuf;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.network.IMalisisMessageHandler;
 import net.malisis.doors.registry.AutoLoad;
 import net.minecraft.entity.player.EntityPlayerMP;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -57,7 +54,7 @@ public class ChunkBlockMessage implements IMalisisMessageHandler<ChunkBlockMessa
 		ChunkBlockHandler.get().setCoords(message.x, message.z, message.coords);
 	}
 
-	public static void sendCoords(Chunk chunk, Set<BlockPos> coords, EntityPlayerMP player)
+	public static void sendCoords(Chunk chunk, TLongSet coords, EntityPlayerMP player)
 	{
 		MalisisDoors.network.sendTo(new Packet(chunk, coords), player);
 	}
@@ -66,12 +63,12 @@ public class ChunkBlockMessage implements IMalisisMessageHandler<ChunkBlockMessa
 	{
 		private int x;
 		private int z;
-		private Set<BlockPos> coords;
+		private TLongSet coords;
 
 		public Packet()
 		{}
 
-		public Packet(Chunk chunk, Set<BlockPos> coords)
+		public Packet(Chunk chunk, TLongSet coords)
 		{
 			this.x = chunk.x;
 			this.z = chunk.z;
@@ -83,10 +80,10 @@ public class ChunkBlockMessage implements IMalisisMessageHandler<ChunkBlockMessa
 		{
 			x = buf.readInt();
 			z = buf.readInt();
-			coords = Sets.newHashSet();
 			int count = buf.readInt();
+			coords = new TLongHashSet(count);
 			for (int i = 0; i < count; i++)
-				coords.add(BlockPos.fromLong(buf.readLong()));
+				coords.add(buf.readLong());
 		}
 
 		@Override
@@ -95,7 +92,10 @@ public class ChunkBlockMessage implements IMalisisMessageHandler<ChunkBlockMessa
 			buf.writeInt(x);
 			buf.writeInt(z);
 			buf.writeInt(coords.size());
-			coords.forEach(p -> buf.writeLong(p.toLong()));
+			coords.forEach(l -> {
+				buf.writeLong(l);
+				return true;
+			});
 		}
 	}
 }
@@ -24,8 +24,7 @@
 
 package net.malisis.doors.util.chunkblock;
 
-import java.util.Set;
-
+import net.malisis.doors.util.BlockPosUtils;
 import net.malisis.doors.util.callback.CallbackRegistry;
 import net.malisis.doors.util.callback.CallbackResult;
 import net.malisis.doors.util.callback.ICallback;
@@ -33,6 +32,7 @@ import net.malisis.doors.util.callback.ICallback.ICallbackPredicate;
 import net.malisis.doors.util.chunkblock.ChunkCallbackRegistry.IChunkCallback;
 import net.malisis.doors.util.chunkblock.ChunkCallbackRegistry.IChunkCallbackPredicate;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.chunk.Chunk;
 
 /**
@@ -44,6 +44,9 @@ import net.minecraft.world.chunk.Chunk;
 public class ChunkCallbackRegistry<C extends IChunkCallback<V>, P extends IChunkCallbackPredicate, V> extends CallbackRegistry<C, P, V>
 {
 
+	/** Procedure reused by the calls made from each thread. */
+	private final ThreadLocal<ListenerProcedure> procedures = ThreadLocal.withInitial(ListenerProcedure::new);
+
 	/**
 	 * Processes the {@link IChunkCallback IChunkCallbacks} registered.
 	 *
@@ -53,30 +56,65 @@ public class ChunkCallbackRegistry<C extends IChunkCallback<V>, P extends IChunk
 	 */
 	public CallbackResult<V> processCallbacks(Chunk chunk, Object... params)
 	{
-		//true = cancel => return
-		Set<BlockPos> coords = ChunkBlockHandler.get().chunks(chunk).get(chunk);
-		return processListeners(coords, chunk, params);
+		ListenerProcedure procedure = procedures.get();
+		//callbacks can query the chunks again, nested calls get their own procedure
+		if (procedure.busy)
+			procedure = new ListenerProcedure();
+
+		procedure.set(chunk, params);
+		try
+		{
+			ChunkBlockHandler.get().forEachCoord(chunk, procedure);
+			return procedure.result;
+		}
+		finally
+		{
+			procedure.clear();
+		}
 	}
 
 	/**
-	 * Processes the {@link IChunkCallback IChunkCallbacks} registered for the list of {@link BlockPos}.
-	 *
-	 * @param list the list
-	 * @param chunk the chunk
-	 * @param params the params
-	 * @return the callback result
+	 * Processes the {@link IChunkCallback IChunkCallbacks} registered for each listener coordinate of a {@link Chunk}.<br>
+	 * The {@link BlockPos} and the parameters array passed to the callbacks are reused between listeners, so callbacks needing to keep
+	 * the position should use {@link BlockPos#toImmutable()}.
 	 */
-	private CallbackResult<V> processListeners(Set<BlockPos> list, Chunk chunk, Object... params)
+	private class ListenerProcedure extends ChunkBlockHandler.ChunkProcedure
 	{
-		CallbackResult<V> result = CallbackResult.noResult();
-		for (BlockPos listener : list)
+		private final MutableBlockPos listener = new MutableBlockPos();
+		/** Parameters passed to the callbacks : chunk, listener and the query params. */
+		private final Object[] args = new Object[3];
+		private CallbackResult<V> result;
+		private boolean busy;
+
+		private void set(Chunk chunk, Object[] params)
+		{
+			set(chunk);
+			args[0] = chunk;
+			args[1] = listener;
+			args[2] = params;
+			result = CallbackResult.noResult();
+			busy = true;
+		}
+
+		private void clear()
+		{
+			world = null;
+			chunk = null;
+			args[0] = null;
+			args[2] = null;
+			result = null;
+			busy = false;
+		}
+
+		@Override
+		public boolean execute(long coord)
 		{
-			CallbackResult<V> tmp = super.processCallbacks(chunk, listener, params);
+			BlockPosUtils.fromLong(listener, coord);
+			CallbackResult<V> tmp = ChunkCallbackRegistry.super.processCallbacks(args);
 			result = reduce.apply(result, tmp);
-			if (result.isForcedCancelled())
-				return result;
+			//true = cancel => stop
+			return !result.isForcedCancelled();
 		}
-		return result;
 	}
 
 	/**
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.chunkblock;
+
+import gnu.trove.TCollections;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.procedure.TLongProcedure;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * The {@link ChunkCoordsMap} holds the coordinates stored for the chunks of a single {@link World}.<br>
+ * Chunks are keyed by {@link ChunkPos#asLong(int, int)} and coordinates are stored as {@link net.minecraft.util.math.BlockPos#toLong()},
+ * so no {@code Chunk} reference is kept and the data is released as soon as the chunk or the world unloads.
+ *
+ * @author Ordinastie
+ */
+public class ChunkCoordsMap
+{
+	private static final TLongSet EMPTY = TCollections.unmodifiableSet(new TLongHashSet(0));
+
+	private final TLongObjectHashMap<TLongSet> chunks = new TLongObjectHashMap<>();
+
+	/**
+	 * Gets the coordinates stored for the chunk.
+	 *
+	 * @param chunkX the chunk X
+	 * @param chunkZ the chunk Z
+	 * @return the coords, never null
+	 */
+	public TLongSet get(int chunkX, int chunkZ)
+	{
+		TLongSet set = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+		return set != null ? set : EMPTY;
+	}
+
+	/**
+	 * Gets the coordinates stored for the {@link Chunk}.
+	 *
+	 * @param chunk the chunk
+	 * @return the coords, never null
+	 */
+	public TLongSet get(Chunk chunk)
+	{
+		return get(chunk.x, chunk.z);
+	}
+
+	private TLongSet getOrCreate(Chunk chunk)
+	{
+		long key = ChunkPos.asLong(chunk.x, chunk.z);
+		TLongSet set = chunks.get(key);
+		if (set == null)
+			chunks.put(key, set = new TLongHashSet());
+		return set;
+	}
+
+	public void add(Chunk chunk, long coord)
+	{
+		getOrCreate(chunk).add(coord);
+	}
+
+	public void addAll(Chunk chunk, TLongSet coords)
+	{
+		getOrCreate(chunk).addAll(coords);
+	}
+
+	public void remove(Chunk chunk, long coord)
+	{
+		long key = ChunkPos.asLong(chunk.x, chunk.z);
+		TLongSet set = chunks.get(key);
+		if (set == null)
+			return;
+
+		set.remove(coord);
+		if (set.isEmpty())
+			chunks.remove(key);
+	}
+
+	/**
+	 * Removes all the coordinates stored for the {@link Chunk}.
+	 *
+	 * @param chunk the chunk
+	 */
+	public void removeChunk(Chunk chunk)
+	{
+		chunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+	}
+
+	/**
+	 * Checks whether no coordinates are stored for any chunk.
+	 *
+	 * @return true, if empty
+	 */
+	public boolean isEmpty()
+	{
+		return chunks.isEmpty();
+	}
+
+	/**
+	 * Executes the procedure for each coordinate stored for the {@link Chunk}, without allocating.
+	 *
+	 * @param chunk the chunk
+	 * @param procedure the procedure
+	 * @return false if the procedure stopped the iteration
+	 */
+	public boolean forEach(Chunk chunk, TLongProcedure procedure)
+	{
+		TLongSet set = chunks.get(ChunkPos.asLong(chunk.x, chunk.z));
+		return set == null || set.forEach(procedure);
+	}
+}
@@ -27,7 +27,8 @@ package net.malisis.doors.util.chunkcollision;
 import java.util.List;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.tuple.Pair;
+
+import gnu.trove.procedure.TLongProcedure;
 
 import net.malisis.doors.block.IComponent;
 import net.malisis.doors.block.component.DirectionalComponent;
@@ -36,16 +37,15 @@ import net.malisis.doors.util.AABBUtils;
 import net.malisis.doors.util.BlockPosUtils;
 import net.malisis.doors.util.ItemUtils;
 import net.malisis.doors.util.MBlockState;
-import net.malisis.doors.util.Point;
 import net.malisis.doors.util.callback.CallbackResult;
 import net.malisis.doors.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.util.chunkblock.ChunkBlockHandler;
 import net.malisis.doors.util.chunkblock.ChunkCallbackRegistry;
 import net.malisis.doors.util.chunkblock.ChunkCallbackRegistry.IChunkCallback;
 import net.malisis.doors.util.chunkblock.ChunkCallbackRegistry.IChunkCallbackPredicate;
-import net.malisis.doors.util.raytrace.Raytrace;
-import net.malisis.doors.util.raytrace.RaytraceBlock;
-import net.malisis.doors.util.raytrace.RaytraceChunk;
+import net.malisis.doors.util.chunkblock.ChunkCoordsMap;
+import net.malisis.doors.util.chunkcollision.CollisionBoundsCache.Entry;
+import net.malisis.doors.util.raytrace.RaytraceContext;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
@@ -56,13 +56,17 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.RayTraceResult.Type;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.GetCollisionBoxesEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 /**
@@ -75,18 +79,20 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 @AutoLoad
 public class ChunkCollision
 {
+	/** Max number of chunks traversed by a ray trace. */
+	private static final int MAX_CHUNKS = 16;
 	private static ChunkCollision instance = new ChunkCollision();
 
 	private ChunkCallbackRegistry<IChunkCallback<Void>, IChunkCallbackPredicate, Void> collisionRegistry = new ChunkCallbackRegistry<>();
-	private ChunkCallbackRegistry<IChunkCallback<RayTraceResult>, IChunkCallbackPredicate, RayTraceResult> rayTraceRegistry = new ChunkCallbackRegistry<>();
 	private ChunkCallbackRegistry<IChunkCallback<Boolean>, IChunkCallbackPredicate, Boolean> placeAtRegistry = new ChunkCallbackRegistry<>();
+	private CollisionBoundsCache boundsCache = new CollisionBoundsCache();
+	private ThreadLocal<ListenerTracer> tracers = ThreadLocal.withInitial(ListenerTracer::new);
 
 	public ChunkCollision()
 	{
 		MinecraftForge.EVENT_BUS.register(this);
 		collisionRegistry.registerCallback(	this::collisionBoxesCallback,
-											CallbackOption.of((IChunkCallbackPredicate) this::isChunkCollidable));
-		rayTraceRegistry.registerCallback(this::rayTraceCallback, CallbackOption.of((IChunkCallbackPredicate) this::isChunkCollidable));
+											CallbackOption.of((IChunkCallbackPredicate) this::isCollidingMask));
 		placeAtRegistry.registerCallback(this::placeAtCallback, CallbackOption.of((IChunkCallbackPredicate) this::isChunkCollidable));
 	}
 
@@ -95,6 +101,42 @@ public class ChunkCollision
 		return IComponent.getComponent(IChunkCollidable.class, chunk.getWorld().getBlockState(listener).getBlock()) != null;
 	}
 
+	/**
+	 * Checks whether the cached collision bounds of the listener intersect the mask passed as first parameter.<br>
+	 * Listeners that are not {@link IChunkCollidable} have no bounds and are discarded.
+	 *
+	 * @param chunk the chunk
+	 * @param listener the listener
+	 * @param params the params
+	 * @return true, if successful
+	 */
+	private boolean isCollidingMask(Chunk chunk, BlockPos listener, Object... params)
+	{
+		return boundsCache.get(chunk.getWorld(), listener).intersects((AxisAlignedBB) params[0]);
+	}
+
+	/**
+	 * Gets the {@link CollisionBoundsCache} used for the collision queries.
+	 *
+	 * @return the bounds cache
+	 */
+	public CollisionBoundsCache getBoundsCache()
+	{
+		return boundsCache;
+	}
+
+	/**
+	 * Invalidates the cached collision boxes for the listener at the {@link BlockPos}.<br>
+	 * Should be called whenever the collision boxes of a {@link IChunkCollidable} change.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 */
+	public void invalidate(World world, BlockPos pos)
+	{
+		boundsCache.invalidate(world, pos);
+	}
+
 	//#region getCollisionBoundinBoxes
 	/**
 	 * Gets the collision bounding boxes for the intersecting chunks.<br>
@@ -116,72 +158,150 @@ public class ChunkCollision
 
 	private CallbackResult<Void> collisionBoxesCallback(Chunk chunk, BlockPos listener, Object... params)
 	{
-		//make sure to get the state from world, because listener may not be inside the passed chunk
-		IBlockState state = chunk.getWorld().getBlockState(listener);
-		IChunkCollidable cc = IComponent.getComponent(IChunkCollidable.class, state.getBlock());
+		//boxes are cached in world space, and looked up from world because listener may not be inside the passed chunk
 		AxisAlignedBB mask = (AxisAlignedBB) params[0];
 		@SuppressWarnings("unchecked")
 		List<AxisAlignedBB> list = (List<AxisAlignedBB>) params[1];
 
-		AxisAlignedBB[] aabbs = cc.getCollisionBoundingBoxes(chunk.getWorld(), listener, state);
-		for (AxisAlignedBB aabb : aabbs)
+		for (AxisAlignedBB aabb : boundsCache.get(chunk.getWorld(), listener).getBoxes())
 		{
-			if (aabb != null)
-			{
-				aabb = AABBUtils.offset(listener, aabb);
-				if (mask.intersects(aabb))
-					list.add(aabb);
-			}
+			if (aabb != null && mask.intersects(aabb))
+				list.add(aabb);
 		}
 
 		return CallbackResult.noResult();
 	}
 
-	//#end getCollisionBoundinBoxes
+	/**
+	 * Clears the cached collision boxes for the listeners inside the unloaded {@link Chunk}.
+	 *
+	 * @param event the event
+	 */
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		boundsCache.invalidate(event.getChunk());
+	}
 
-	//#region getRayTraceResult
 	/**
-	 * Sets the ray trace infos.<br>
-	 * Called via ASM at the beginning of {@link World#rayTraceBlocks(Vec3d, Vec3d, boolean, boolean, boolean)}
+	 * Clears the cached collision boxes for the unloaded {@link World}.
 	 *
-	 * @param src the src
-	 * @param dest the dest
+	 * @param event the event
 	 */
-	public Pair<Point, Point> setRayTraceInfos(Vec3d src, Vec3d dest)
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
 	{
-		if (src == null || dest == null)
-			return null;
-		return Pair.of(new Point(src), new Point(dest));
+		boundsCache.clear(event.getWorld());
 	}
 
+	//#end getCollisionBoundinBoxes
+
+	//#region getRayTraceResult
 	/**
 	 * Gets the ray trace result.<br>
-	 * Called via ASM from {@link World#rayTraceBlocks(Vec3d, Vec3d, boolean, boolean, boolean)} before each return.
+	 * Called via ASM from {@link World#rayTraceBlocks(Vec3d, Vec3d, boolean, boolean, boolean)} before each return, with the initial
+	 * source and destination of the ray.
 	 *
 	 * @param world the world
 	 * @param result the mop
 	 * @return the ray trace result
 	 */
-	public RayTraceResult getRayTraceResult(World world, Pair<Point, Point> infos, RayTraceResult result, boolean stopOnLiquid, boolean ignoreBlockWithoutBoundingBox, boolean returnLastUncollidableBlock)
+	public RayTraceResult getRayTraceResult(World world, double srcX, double srcY, double srcZ, double destX, double destY, double destZ, RayTraceResult result, boolean stopOnLiquid, boolean ignoreBlockWithoutBoundingBox, boolean returnLastUncollidableBlock)
 	{
-		if (infos == null)
-			return result;
+		RaytraceContext context = RaytraceContext.get().set(srcX, srcY, srcZ, destX, destY, destZ);
+		if (trace(world, context) && (result == null || result.typeOfHit != Type.BLOCK
+				|| result.hitVec.squareDistanceTo(srcX, srcY, srcZ) > context.getHitDistanceSquared()))
+			result = context.toResult();
 
-		RayTraceResult tmp = new RaytraceChunk(world, infos.getLeft(), infos.getRight()).trace();
-		result = Raytrace.getClosestHit(Type.BLOCK, infos.getLeft(), result, tmp);
 		return returnLastUncollidableBlock || result == null || result.typeOfHit == Type.BLOCK ? result : null;
 	}
 
-	public RayTraceResult processCallbacks(Chunk chunk, Point src, Point dest)
+	/**
+	 * Traces the ray of the {@link RaytraceContext} against the {@link IChunkCollidable} listeners stored in the chunks it goes through.
+	 * <br>
+	 * Chunks without listeners, or whose listeners bounds are not intersected by the ray, are skipped. No object is allocated, the
+	 * closest hit is kept in the context.
+	 *
+	 * @param world the world
+	 * @param context the context
+	 * @return true, if a listener was hit
+	 */
+	public boolean trace(World world, RaytraceContext context)
 	{
-		rayTraceRegistry.reduce((c1, c2) -> CallbackResult.of(Raytrace.getClosestHit(Type.BLOCK, src, c1.getValue(), c2.getValue())));
-		return rayTraceRegistry.processCallbacks(chunk, src, dest).getValue();
+		ChunkCoordsMap chunks = ChunkBlockHandler.get().chunks(world);
+		//no listener in the world, skip the chunks entirely
+		if (chunks.isEmpty() || world.getChunkProvider() == null)
+			return false;
+
+		double srcX = context.getSrcX(), srcZ = context.getSrcZ();
+		double dirX = context.getDirX(), dirZ = context.getDirZ();
+		int cx = MathHelper.floor(srcX) >> 4;
+		int cz = MathHelper.floor(srcZ) >> 4;
+		int stepX = dirX > 0 ? 1 : -1;
+		int stepZ = dirZ > 0 ? 1 : -1;
+		double deltaX = dirX != 0 ? 16 / Math.abs(dirX) : Double.POSITIVE_INFINITY;
+		double deltaZ = dirZ != 0 ? 16 / Math.abs(dirZ) : Double.POSITIVE_INFINITY;
+		double nextX = dirX != 0 ? ((cx + (dirX > 0 ? 1 : 0)) * 16 - srcX) / dirX : Double.POSITIVE_INFINITY;
+		double nextZ = dirZ != 0 ? ((cz + (dirZ > 0 ? 1 : 0)) * 16 - srcZ) / dirZ : Double.POSITIVE_INFINITY;
+		double t = 0;
+
+		ListenerTracer tracer = tracers.get();
+		tracer.set(world, context);
+		//the closest hit is in an already traced chunk, no need to go further
+		for (int count = 0; count <= MAX_CHUNKS && t < context.getMaxT() && t < context.getHitT(); count++)
+		{
+			if (!chunks.get(cx, cz).isEmpty())
+			{
+				Chunk chunk = world.getChunkProvider().getLoadedChunk(cx, cz);
+				if (chunk == null)
+					break;
+
+				AxisAlignedBB bounds = boundsCache.getChunkBounds(chunk);
+				if (bounds != null && context.intersects(bounds))
+					ChunkBlockHandler.get().forEachCoord(chunk, tracer);
+			}
+
+			if (nextX < nextZ)
+			{
+				t = nextX;
+				nextX += deltaX;
+				cx += stepX;
+			}
+			else
+			{
+				t = nextZ;
+				nextZ += deltaZ;
+				cz += stepZ;
+			}
+		}
+		tracer.set(null, null);
+
+		return context.hasHit();
 	}
 
-	private CallbackResult<RayTraceResult> rayTraceCallback(Chunk chunk, BlockPos listener, Object... params)
+	/**
+	 * Traces the ray of a {@link RaytraceContext} against the cached ray trace boxes of each listener.
+	 */
+	private class ListenerTracer implements TLongProcedure
 	{
-		RayTraceResult result = new RaytraceBlock(chunk.getWorld(), (Point) params[0], (Point) params[1], listener).trace();
-		return result != null ? CallbackResult.of(result) : CallbackResult.noResult();
+		private World world;
+		private RaytraceContext context;
+		private MutableBlockPos listener = new MutableBlockPos();
+
+		private void set(World world, RaytraceContext context)
+		{
+			this.world = world;
+			this.context = context;
+		}
+
+		@Override
+		public boolean execute(long coord)
+		{
+			Entry entry = boundsCache.get(world, BlockPosUtils.fromLong(listener, coord));
+			if (context.intersects(entry.getRayTraceBounds()))
+				context.intersect(coord, entry.getRayTraceBoxes());
+			return true;
+		}
 	}
 
 	//#end getRayTraceResult
@@ -0,0 +1,299 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.chunkcollision;
+
+import java.util.WeakHashMap;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.malisis.doors.block.IComponent;
+import net.malisis.doors.util.AABBUtils;
+import net.malisis.doors.util.BlockPosUtils;
+import net.malisis.doors.util.chunkblock.ChunkBlockHandler;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * The {@link CollisionBoundsCache} stores the world space collision {@link AxisAlignedBB AxisAlignedBBs} of the {@link IChunkCollidable}
+ * listeners, keyed by their {@link BlockPos}.<br>
+ * Each entry also holds the union of its collision and ray trace boxes so that queries can discard a listener without fetching its state
+ * from the world. The union of all the listeners stored in a {@link Chunk} is cached as well, to discard whole chunks.<br>
+ * Entries are invalidated when the listener block is changed (via {@link ChunkBlockHandler}) or when the door state changes.
+ *
+ * @author Ordinastie
+ */
+public class CollisionBoundsCache
+{
+	/** Entry used for listeners that are not {@link IChunkCollidable} or don't have any box. */
+	private static final Entry EMPTY = new Entry(new AxisAlignedBB[0], new AxisAlignedBB[0]);
+
+	private WeakHashMap<World, WorldCache> serverCaches = new WeakHashMap<>();
+	private WeakHashMap<World, WorldCache> clientCaches = new WeakHashMap<>();
+
+	private WeakHashMap<World, WorldCache> caches(World world)
+	{
+		return world.isRemote ? clientCaches : serverCaches;
+	}
+
+	private WorldCache cache(World world)
+	{
+		return caches(world).computeIfAbsent(world, w -> new WorldCache());
+	}
+
+	/**
+	 * Gets the cached {@link Entry} for the listener at the {@link BlockPos}, computing it if necessary.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 * @return the entry
+	 */
+	public Entry get(World world, BlockPos pos)
+	{
+		return cache(world).get(world, pos);
+	}
+
+	/**
+	 * Gets the union of the ray trace boxes of all the listeners stored in the {@link Chunk}, computing it if necessary.
+	 *
+	 * @param chunk the chunk
+	 * @return the bounds, or null if no listener has any box
+	 */
+	public AxisAlignedBB getChunkBounds(Chunk chunk)
+	{
+		return cache(chunk.getWorld()).getChunkBounds(chunk);
+	}
+
+	/**
+	 * Computes the {@link Entry} for the listener at the {@link BlockPos}.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 * @return the entry
+	 */
+	private static Entry compute(World world, BlockPos pos)
+	{
+		IBlockState state = world.getBlockState(pos);
+		IChunkCollidable cc = IComponent.getComponent(IChunkCollidable.class, state.getBlock());
+		if (cc == null)
+			return EMPTY;
+
+		Entry entry = new Entry(offset(pos, cc.getCollisionBoundingBoxes(world, pos, state)),
+								offset(pos, cc.getRayTraceBoundingBox(world, pos, state)));
+		return entry.bounds != null || entry.rayTraceBounds != null ? entry : EMPTY;
+	}
+
+	/**
+	 * Offsets a copy of the {@link AxisAlignedBB AxisAlignedBBs} by the {@link BlockPos}.
+	 *
+	 * @param pos the pos
+	 * @param aabbs the aabbs
+	 * @return the offset aabbs, never null
+	 */
+	private static AxisAlignedBB[] offset(BlockPos pos, AxisAlignedBB[] aabbs)
+	{
+		return aabbs != null ? AABBUtils.offset(pos, aabbs.clone()) : new AxisAlignedBB[0];
+	}
+
+	/**
+	 * Invalidates the cached {@link Entry} for the listener at the {@link BlockPos}.<br>
+	 * Also invalidates the cached chunk bounds for that {@link World}.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 */
+	public void invalidate(World world, BlockPos pos)
+	{
+		if (world == null)
+			return;
+		WorldCache cache = caches(world).get(world);
+		if (cache == null)
+			return;
+
+		cache.entries.remove(pos.toLong());
+		cache.chunkBounds.clear();
+	}
+
+	/**
+	 * Invalidates all the cached entries for listeners located inside the {@link Chunk}.
+	 *
+	 * @param chunk the chunk
+	 */
+	public void invalidate(Chunk chunk)
+	{
+		World world = chunk.getWorld();
+		WorldCache cache = caches(world).get(world);
+		if (cache == null)
+			return;
+
+		cache.entries.retainEntries((key, entry) -> {
+			return BlockPosUtils.getX(key) >> 4 != chunk.x || BlockPosUtils.getZ(key) >> 4 != chunk.z;
+		});
+		cache.chunkBounds.remove(ChunkPos.asLong(chunk.x, chunk.z));
+	}
+
+	/**
+	 * Invalidates the cached chunk bounds for the {@link World}.<br>
+	 * Should be called when the listeners stored for a chunk change.
+	 *
+	 * @param world the world
+	 */
+	public void invalidateChunks(World world)
+	{
+		WorldCache cache = caches(world).get(world);
+		if (cache != null)
+			cache.chunkBounds.clear();
+	}
+
+	/**
+	 * Clears all the cached entries for the {@link World}.
+	 *
+	 * @param world the world
+	 */
+	public void clear(World world)
+	{
+		caches(world).remove(world);
+	}
+
+	/**
+	 * Cached data for a single {@link World}.
+	 */
+	private static class WorldCache
+	{
+		/** Sentinel for chunks whose listeners don't have any box. */
+		private static final AxisAlignedBB NO_BOUNDS = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+
+		private final TLongObjectHashMap<Entry> entries = new TLongObjectHashMap<>();
+		private final TLongObjectHashMap<AxisAlignedBB> chunkBounds = new TLongObjectHashMap<>();
+		private final MutableBlockPos listener = new MutableBlockPos();
+		private AxisAlignedBB union;
+
+		private Entry get(World world, BlockPos pos)
+		{
+			long key = pos.toLong();
+			Entry entry = entries.get(key);
+			if (entry == null)
+			{
+				entry = compute(world, pos.toImmutable());
+				entries.put(key, entry);
+			}
+			return entry;
+		}
+
+		private AxisAlignedBB getChunkBounds(Chunk chunk)
+		{
+			long key = ChunkPos.asLong(chunk.x, chunk.z);
+			AxisAlignedBB bounds = chunkBounds.get(key);
+			if (bounds == null)
+			{
+				World world = chunk.getWorld();
+				union = null;
+				ChunkBlockHandler.get().forEachCoord(chunk, coord -> {
+					AxisAlignedBB aabb = get(world, BlockPosUtils.fromLong(listener, coord)).getRayTraceBounds();
+					if (aabb != null)
+						union = union == null ? aabb : union.union(aabb);
+					return true;
+				});
+				bounds = union != null ? union : NO_BOUNDS;
+				union = null;
+				chunkBounds.put(key, bounds);
+			}
+			return bounds != NO_BOUNDS ? bounds : null;
+		}
+	}
+
+	/**
+	 * Cached world space boxes for a listener.
+	 */
+	public static class Entry
+	{
+		private final AxisAlignedBB[] boxes;
+		private final AxisAlignedBB bounds;
+		private final AxisAlignedBB[] rayTraceBoxes;
+		private final AxisAlignedBB rayTraceBounds;
+
+		private Entry(AxisAlignedBB[] boxes, AxisAlignedBB[] rayTraceBoxes)
+		{
+			this.boxes = boxes;
+			this.bounds = AABBUtils.combine(boxes);
+			this.rayTraceBoxes = rayTraceBoxes;
+			this.rayTraceBounds = AABBUtils.combine(rayTraceBoxes);
+		}
+
+		/**
+		 * Gets the world space collision boxes.
+		 *
+		 * @return the boxes
+		 */
+		public AxisAlignedBB[] getBoxes()
+		{
+			return boxes;
+		}
+
+		/**
+		 * Gets the union of all the collision boxes, or null if there are none.
+		 *
+		 * @return the bounds
+		 */
+		public AxisAlignedBB getBounds()
+		{
+			return bounds;
+		}
+
+		/**
+		 * Gets the world space ray trace boxes.
+		 *
+		 * @return the ray trace boxes
+		 */
+		public AxisAlignedBB[] getRayTraceBoxes()
+		{
+			return rayTraceBoxes;
+		}
+
+		/**
+		 * Gets the union of all the ray trace boxes, or null if there are none.
+		 *
+		 * @return the ray trace bounds
+		 */
+		public AxisAlignedBB getRayTraceBounds()
+		{
+			return rayTraceBounds;
+		}
+
+		/**
+		 * Checks whether the collision bounds of this {@link Entry} intersect the mask.
+		 *
+		 * @param mask the mask
+		 * @return true, if successful
+		 */
+		public boolean intersects(AxisAlignedBB mask)
+		{
+			return bounds != null && bounds.intersects(mask);
+		}
+	}
+}
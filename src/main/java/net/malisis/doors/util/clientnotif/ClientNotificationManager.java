@@ -25,38 +25,72 @@
 package net.malisis.doors.util.clientnotif;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
-import org.apache.commons.lang3.tuple.Triple;
-
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import net.malisis.doors.MalisisDoors;
-import net.malisis.doors.util.WeakNested;
+import net.malisis.doors.util.EntityUtils;
+import net.malisis.doors.util.clientnotif.NeighborChangedMessage.ChunkNotifications;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.WorldServer;
 
 /**
+ * Keeps track of the neighbor changes for the blocks with a {@link ClientNotification} annotated <code>neighborChanged()</code>, and sends
+ * them to the clients at the end of the world tick.<br>
+ * Changes are stored per world and per chunk as packed longs, so that a same notification happening several times during a tick is only
+ * sent once.
+ *
  * @author Ordinastie
  *
  */
 public class ClientNotificationManager
 {
+	private static final int DELTA_BITS = 12;
+	private static final int DELTA_MASK = (1 << DELTA_BITS) - 1;
+	private static final int MAX_DELTA = (1 << (DELTA_BITS - 1)) - 1;
+
 	private static Set<Block> clientBlocks = Sets.newHashSet();
-	private static WeakNested.List<Chunk, Triple<BlockPos, Block, BlockPos>> updatedPos = new WeakNested.List<>(ArrayList::new);
+	/** Ids of the blocks in {@link #clientBlocks}. */
+	private static BitSet clientBlockIds = new BitSet();
+	/** Pending notifications per world, per chunk. */
+	private static Map<World, TLongObjectHashMap<TLongSet>> updatedPos = new WeakHashMap<>();
 
 	private static void registerBlockNotif(Block block)
 	{
 		clientBlocks.add(block);
+		updateIds();
 	}
 
 	private static boolean needsNotification(Block block)
 	{
-		return clientBlocks.contains(block);
+		return clientBlockIds.get(Block.getIdFromBlock(block));
+	}
+
+	/**
+	 * Updates the ids of the blocks needing client notifications.<br>
+	 * Called when the blocks are registered and when the ids are remapped.
+	 */
+	public static void updateIds()
+	{
+		BitSet ids = new BitSet();
+		for (Block block : clientBlocks)
+			ids.set(Block.getIdFromBlock(block));
+		clientBlockIds = ids;
 	}
 
 	public static void discover(Block block)
@@ -89,16 +123,112 @@ public class ClientNotificationManager
 		if (!needsNotification(state.getBlock()))
 			return;
 
-		updatedPos.add(world.getChunkFromBlockCoords(pos), Triple.of(pos, neighborBlock, neighborPos));
-		//NeighborChangedMessage.send(world, pos, neighbor);
+		int dx = neighborPos.getX() - pos.getX();
+		int dy = neighborPos.getY() - pos.getY();
+		int dz = neighborPos.getZ() - pos.getZ();
+		if (Math.abs(dx) > MAX_DELTA || Math.abs(dy) > MAX_DELTA || Math.abs(dz) > MAX_DELTA)
+			return; //neighbor too far away to be a neighbor
+
+		TLongObjectHashMap<TLongSet> chunks = updatedPos.get(world);
+		if (chunks == null)
+			updatedPos.put(world, chunks = new TLongObjectHashMap<>());
+
+		long chunkPos = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		TLongSet set = chunks.get(chunkPos);
+		if (set == null)
+			chunks.put(chunkPos, set = new TLongHashSet());
+		set.add(pack(pos, dx, dy, dz, neighborBlock));
+	}
+
+	/**
+	 * Sends the notifications accumulated for the {@link World} during this tick.<br>
+	 * Each player receives a single packet containing the notifications of all the chunks they are watching.
+	 *
+	 * @param world the world
+	 */
+	public static void sendNeighborNotification(WorldServer world)
+	{
+		TLongObjectHashMap<TLongSet> chunks = updatedPos.get(world);
+		if (chunks == null || chunks.isEmpty())
+			return;
+
+		Map<EntityPlayerMP, List<ChunkNotifications>> perPlayer = Maps.newHashMap();
+		chunks.forEachEntry((chunkPos, set) -> {
+			int x = (int) chunkPos;
+			int z = (int) (chunkPos >> 32);
+			ChunkNotifications notifs = new ChunkNotifications(x, z, set.toArray());
+			for (EntityPlayerMP player : EntityUtils.getPlayersWatchingChunk(world, x, z))
+				perPlayer.computeIfAbsent(player, p -> Lists.newArrayList()).add(notifs);
+			return true;
+		});
+		chunks.clear();
+
+		perPlayer.forEach(NeighborChangedMessage::send);
+	}
+
+	//#region Packing
+	/**
+	 * Packs a notification into a long.<br>
+	 * From lowest to highest bits : x (4), z (4) and y (8) of the position inside the chunk, the offset of the neighbor position on X, Y
+	 * and Z (12 each), and the id of the neighbor block (12).
+	 *
+	 * @param pos the pos
+	 * @param dx the x offset of the neighbor
+	 * @param dy the y offset of the neighbor
+	 * @param dz the z offset of the neighbor
+	 * @param neighborBlock the neighbor block
+	 * @return the packed notification
+	 */
+	static long pack(BlockPos pos, int dx, int dy, int dz, Block neighborBlock)
+	{
+		long packed = (pos.getX() & 15) | (pos.getZ() & 15) << 4 | (pos.getY() & 255) << 8;
+		packed |= (long) (dx & DELTA_MASK) << 16;
+		packed |= (long) (dy & DELTA_MASK) << 16 + DELTA_BITS;
+		packed |= (long) (dz & DELTA_MASK) << 16 + 2 * DELTA_BITS;
+		packed |= (long) (Block.getIdFromBlock(neighborBlock) & 4095) << 16 + 3 * DELTA_BITS;
+		return packed;
+	}
+
+	/**
+	 * Gets the position of the block notified.
+	 *
+	 * @param chunkX the chunk X
+	 * @param chunkZ the chunk Z
+	 * @param packed the packed notification
+	 * @return the pos
+	 */
+	static BlockPos unpackPos(int chunkX, int chunkZ, long packed)
+	{
+		return new BlockPos((chunkX << 4) + (int) (packed & 15), (int) (packed >> 8 & 255), (chunkZ << 4) + (int) (packed >> 4 & 15));
 	}
 
-	public static void sendNeighborNotification(World world)
+	/**
+	 * Gets the position of the neighbor that changed.
+	 *
+	 * @param pos the position of the block notified
+	 * @param packed the packed notification
+	 * @return the neighbor pos
+	 */
+	static BlockPos unpackNeighborPos(BlockPos pos, long packed)
 	{
-		for (Chunk chunk : updatedPos.keys())
-			NeighborChangedMessage.send(chunk, updatedPos.get(chunk));
+		return pos.add(delta(packed, 16), delta(packed, 16 + DELTA_BITS), delta(packed, 16 + 2 * DELTA_BITS));
+	}
 
-		updatedPos.clear();
+	/**
+	 * Gets the {@link Block} that changed.
+	 *
+	 * @param packed the packed notification
+	 * @return the neighbor block
+	 */
+	static Block unpackNeighborBlock(long packed)
+	{
+		return Block.getBlockById((int) (packed >>> 16 + 3 * DELTA_BITS));
 	}
 
+	private static int delta(long packed, int shift)
+	{
+		//sign extend the value
+		return (int) (packed >> shift & DELTA_MASK) << 32 - DELTA_BITS >> 32 - DELTA_BITS;
+	}
+	//#endregion Packing
 }
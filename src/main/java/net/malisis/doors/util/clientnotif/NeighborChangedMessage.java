@@ -26,8 +26,6 @@ package net.malisis.doors.util.clientnotif;
 
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import com.google.common.collect.Lists;
 
 import io.netty.buffer.ByteBuf;
@@ -35,10 +33,9 @@ import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.network.IMalisisMessageHandler;
 import net.malisis.doors.registry.AutoLoad;
 import net.malisis.doors.util.clientnotif.NeighborChangedMessage.Packet;
-import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.relauncher.Side;
@@ -59,26 +56,49 @@ public class NeighborChangedMessage implements IMalisisMessageHandler<Packet, IM
 	public void process(Packet message, MessageContext ctx)
 	{
 		World world = IMalisisMessageHandler.getWorld(ctx);
-		for (Triple<BlockPos, Block, BlockPos> t : message.list)
-			world.getBlockState(t.getLeft()).neighborChanged(world, t.getLeft(), t.getMiddle(), t.getRight());
+		for (ChunkNotifications chunk : message.chunks)
+		{
+			for (long packed : chunk.notifications)
+			{
+				BlockPos pos = ClientNotificationManager.unpackPos(chunk.x, chunk.z, packed);
+				BlockPos neighborPos = ClientNotificationManager.unpackNeighborPos(pos, packed);
+				world.getBlockState(pos).neighborChanged(world, pos, ClientNotificationManager.unpackNeighborBlock(packed), neighborPos);
+			}
+		}
 	}
 
-	public static void send(Chunk chunk, List<Triple<BlockPos, Block, BlockPos>> list)
+	public static void send(EntityPlayerMP player, List<ChunkNotifications> chunks)
 	{
-		Packet packet = new Packet(list);
-		MalisisDoors.network.sendToPlayersWatchingChunk(packet, chunk);
+		MalisisDoors.network.sendTo(new Packet(chunks), player);
+	}
+
+	/**
+	 * The packed notifications for a chunk.
+	 */
+	public static class ChunkNotifications
+	{
+		private int x;
+		private int z;
+		private long[] notifications;
+
+		public ChunkNotifications(int x, int z, long[] notifications)
+		{
+			this.x = x;
+			this.z = z;
+			this.notifications = notifications;
+		}
 	}
 
 	public static class Packet implements IMessage
 	{
-		private List<Triple<BlockPos, Block, BlockPos>> list = Lists.newArrayList();
+		private List<ChunkNotifications> chunks = Lists.newArrayList();
 
 		public Packet()
 		{}
 
-		public Packet(List<Triple<BlockPos, Block, BlockPos>> list)
+		public Packet(List<ChunkNotifications> chunks)
 		{
-			this.list = list;
+			this.chunks = chunks;
 		}
 
 		@Override
@@ -86,20 +106,27 @@ public class NeighborChangedMessage implements IMalisisMessageHandler<Packet, IM
 		{
 			int size = buf.readInt();
 			for (int i = 0; i < size; i++)
-				list.add(Triple.of(	BlockPos.fromLong(buf.readLong()),
-									Block.getBlockById(buf.readInt()),
-									BlockPos.fromLong(buf.readLong())));
+			{
+				int x = buf.readInt();
+				int z = buf.readInt();
+				long[] notifications = new long[buf.readInt()];
+				for (int j = 0; j < notifications.length; j++)
+					notifications[j] = buf.readLong();
+				chunks.add(new ChunkNotifications(x, z, notifications));
+			}
 		}
 
 		@Override
 		public void toBytes(ByteBuf buf)
 		{
-			buf.writeInt(list.size());
-			for (Triple<BlockPos, Block, BlockPos> t : list)
+			buf.writeInt(chunks.size());
+			for (ChunkNotifications chunk : chunks)
 			{
-				buf.writeLong(t.getLeft().toLong());
-				buf.writeInt(Block.getIdFromBlock(t.getMiddle()));
-				buf.writeLong(t.getRight().toLong());
+				buf.writeInt(chunk.x);
+				buf.writeInt(chunk.z);
+				buf.writeInt(chunk.notifications.length);
+				for (long packed : chunk.notifications)
+					buf.writeLong(packed);
 			}
 		}
 	}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.proximity;
+
+import net.minecraft.util.math.AxisAlignedBB;
+
+/**
+ * {@link IProximityListener} are notified by the {@link ProximityHandler} when players enter or leave their proximity box.
+ *
+ * @author Ordinastie
+ */
+public interface IProximityListener
+{
+	/**
+	 * Gets the box, in world coordinates, in which players are detected.<br>
+	 * Queried once when registering.
+	 *
+	 * @return the proximity box
+	 */
+	public AxisAlignedBB getProximityBox();
+
+	/**
+	 * Checks whether this {@link IProximityListener} is still valid.<br>
+	 * Invalid listeners are automatically unregistered.
+	 *
+	 * @return true, if valid
+	 */
+	public boolean isProximityValid();
+
+	/**
+	 * Called when the first player enters the proximity box.
+	 */
+	public void onPlayerEnter();
+
+	/**
+	 * Called when the last player leaves the proximity box.
+	 */
+	public void onPlayerLeave();
+}
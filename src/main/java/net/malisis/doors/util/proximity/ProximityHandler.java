@@ -0,0 +1,271 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.proximity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.malisis.doors.registry.AutoLoad;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * The {@link ProximityHandler} detects players entering and leaving the boxes of registered {@link IProximityListener IProximityListeners}.
+ * <br>
+ * Once per world tick, the players are bucketed by chunk, and each listener only tests the players in the chunks its box overlaps.<br>
+ * Listeners without any player within {@link #COARSE_RADIUS} chunks are only checked every {@link #IDLE_INTERVAL} ticks.<br>
+ * Detection is only done on the server, the resulting state changes are synced to the clients.
+ *
+ * @author Ordinastie
+ */
+@AutoLoad
+public class ProximityHandler
+{
+	/** Radius, in chunks, around a listener box in which a player keeps the listener checked every tick. */
+	private static final int COARSE_RADIUS = 2;
+	/** Number of ticks between checks for listeners without any player around. */
+	private static final int IDLE_INTERVAL = 10;
+
+	private static ProximityHandler instance = new ProximityHandler();
+
+	private Map<World, WorldProximity> worlds = new HashMap<>();
+
+	private ProximityHandler()
+	{
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase != Phase.END)
+			return;
+
+		WorldProximity proximity = worlds.get(event.world);
+		if (proximity != null)
+			proximity.tick(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		worlds.remove(event.getWorld());
+	}
+
+	/**
+	 * Registers a {@link IProximityListener} for the {@link World}.<br>
+	 * Does nothing on the client.
+	 *
+	 * @param world the world
+	 * @param listener the listener
+	 */
+	public static void register(World world, IProximityListener listener)
+	{
+		if (world == null || world.isRemote)
+			return;
+
+		instance.worlds.computeIfAbsent(world, w -> new WorldProximity()).add(listener);
+	}
+
+	/**
+	 * Unregisters a {@link IProximityListener} from the {@link World}.
+	 *
+	 * @param world the world
+	 * @param listener the listener
+	 */
+	public static void unregister(World world, IProximityListener listener)
+	{
+		if (world == null || world.isRemote)
+			return;
+
+		WorldProximity proximity = instance.worlds.get(world);
+		if (proximity != null)
+			proximity.remove(listener);
+	}
+
+	/**
+	 * Gets the number of {@link IProximityListener} registered for the {@link World}.
+	 *
+	 * @param world the world
+	 * @return the count
+	 */
+	public static int count(World world)
+	{
+		WorldProximity proximity = instance.worlds.get(world);
+		return proximity != null ? proximity.entries.size() : 0;
+	}
+
+	/**
+	 * Proximity data for a single {@link World}.
+	 */
+	private static class WorldProximity
+	{
+		private final Map<IProximityListener, Entry> entries = new HashMap<>();
+		private final TLongObjectHashMap<List<EntityPlayer>> buckets = new TLongObjectHashMap<>();
+		private final List<List<EntityPlayer>> usedBuckets = new ArrayList<>();
+		private int tick;
+
+		private void add(IProximityListener listener)
+		{
+			if (!entries.containsKey(listener))
+				entries.put(listener, new Entry(listener));
+		}
+
+		private void remove(IProximityListener listener)
+		{
+			entries.remove(listener);
+		}
+
+		private void tick(World world)
+		{
+			tick++;
+			if (entries.isEmpty())
+				return;
+
+			fillBuckets(world);
+
+			Iterator<Entry> it = entries.values().iterator();
+			while (it.hasNext())
+			{
+				Entry entry = it.next();
+				if (!entry.listener.isProximityValid())
+				{
+					it.remove();
+					continue;
+				}
+
+				if (tick < entry.nextCheck)
+					continue;
+
+				if (!hasPlayer(entry.box, COARSE_RADIUS, null))
+				{
+					entry.nextCheck = tick + IDLE_INTERVAL;
+					entry.update(false);
+				}
+				else
+					entry.update(hasPlayer(entry.box, 0, entry.box));
+			}
+		}
+
+		/**
+		 * Puts the players of the {@link World} in buckets keyed by the chunk they're in.
+		 *
+		 * @param world the world
+		 */
+		private void fillBuckets(World world)
+		{
+			for (List<EntityPlayer> bucket : usedBuckets)
+				bucket.clear();
+			usedBuckets.clear();
+
+			for (EntityPlayer player : world.playerEntities)
+			{
+				if (player.isSpectator())
+					continue;
+
+				long key = ChunkPos.asLong(MathHelper.floor(player.posX) >> 4, MathHelper.floor(player.posZ) >> 4);
+				List<EntityPlayer> bucket = buckets.get(key);
+				if (bucket == null)
+					buckets.put(key, bucket = new ArrayList<>());
+				if (bucket.isEmpty())
+					usedBuckets.add(bucket);
+				bucket.add(player);
+			}
+		}
+
+		/**
+		 * Checks whether a player is in the chunks around the box.<br>
+		 * If {@code test} is not null, the player bounding box must also intersect it.
+		 *
+		 * @param box the box
+		 * @param radius the radius in chunks
+		 * @param test the test
+		 * @return true, if successful
+		 */
+		private boolean hasPlayer(AxisAlignedBB box, int radius, AxisAlignedBB test)
+		{
+			//expand by one block to account for the players' width
+			int minX = (MathHelper.floor(box.minX) - 1 >> 4) - radius;
+			int maxX = (MathHelper.floor(box.maxX) + 1 >> 4) + radius;
+			int minZ = (MathHelper.floor(box.minZ) - 1 >> 4) - radius;
+			int maxZ = (MathHelper.floor(box.maxZ) + 1 >> 4) + radius;
+
+			for (int cx = minX; cx <= maxX; cx++)
+			{
+				for (int cz = minZ; cz <= maxZ; cz++)
+				{
+					List<EntityPlayer> bucket = buckets.get(ChunkPos.asLong(cx, cz));
+					if (bucket == null)
+						continue;
+					for (EntityPlayer player : bucket)
+						if (test == null || player.getEntityBoundingBox().intersects(test))
+							return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Registered {@link IProximityListener} and its current state.
+	 */
+	private static class Entry
+	{
+		private final IProximityListener listener;
+		private final AxisAlignedBB box;
+		private boolean playerInside;
+		private int nextCheck;
+
+		private Entry(IProximityListener listener)
+		{
+			this.listener = listener;
+			this.box = listener.getProximityBox();
+		}
+
+		private void update(boolean inside)
+		{
+			if (inside == playerInside)
+				return;
+
+			playerInside = inside;
+			if (inside)
+				listener.onPlayerEnter();
+			else
+				listener.onPlayerLeave();
+		}
+	}
+}
@@ -24,9 +24,6 @@
 
 package net.malisis.doors.util.raytrace;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -136,52 +133,23 @@ public class Raytrace
 		dest = ray.getPointAt(length);
 	}
 
+	/**
+	 * Gets the closest intersection of this {@link Raytrace} with the {@link AxisAlignedBB AxisAlignedBBs}.<br>
+	 * Intersections are computed by the {@link RaytraceContext} of the current thread, only the returned {@link Pair} is allocated.
+	 *
+	 * @param aabbs the aabbs
+	 * @return the side and point of the closest intersection, or null if none
+	 */
 	public Pair<EnumFacing, Point> trace(AxisAlignedBB... aabbs)
 	{
 		if (ArrayUtils.isEmpty(aabbs))
 			return null;
 
-		List<Pair<EnumFacing, Point>> points = new ArrayList<>();
-		double maxDist = dest != null ? Point.distanceSquared(src, dest) : Double.MAX_VALUE;
-		for (AxisAlignedBB aabb : aabbs)
-		{
-			if (aabb == null)
-				continue;
-
-			for (Pair<EnumFacing, Point> pair : ray.intersect(aabb))
-			{
-				if (Point.distanceSquared(src, pair.getRight()) < maxDist)
-					points.add(pair);
-			}
-		}
-
-		if (points.size() == 0)
+		RaytraceContext context = RaytraceContext.get().set(ray, dest);
+		if (!context.intersect(aabbs))
 			return null;
 
-		return getClosest(points);
-	}
-
-	/**
-	 * Gets the closest {@link Point} of the origin.
-	 *
-	 * @param points the points
-	 * @return the closest point
-	 */
-	private Pair<EnumFacing, Point> getClosest(List<Pair<EnumFacing, Point>> points)
-	{
-		double distance = Double.MAX_VALUE;
-		Pair<EnumFacing, Point> ret = null;
-		for (Pair<EnumFacing, Point> pair : points)
-		{
-			double d = Point.distanceSquared(src, pair.getRight());
-			if (distance > d)
-			{
-				distance = d;
-				ret = pair;
-			}
-		}
-
-		return ret;
+		return Pair.of(context.getHitSide(), new Point(context.getHitX(), context.getHitY(), context.getHitZ()));
 	}
 
 	/**
@@ -24,15 +24,11 @@
 
 package net.malisis.doors.util.raytrace;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import net.malisis.doors.block.IBoundingBox;
-import net.malisis.doors.util.AABBUtils;
 import net.malisis.doors.util.Point;
 import net.malisis.doors.util.Ray;
 import net.malisis.doors.util.Vector;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
@@ -123,10 +119,28 @@ public class RaytraceBlock extends Raytrace
 
 		IBoundingBox block = (IBoundingBox) state.getBlock();
 		AxisAlignedBB[] aabbs = block.getRayTraceBoundingBox(world, pos, world.getBlockState(pos));
-		Pair<EnumFacing, Point> closest = super.trace(AABBUtils.offset(pos, aabbs));
-		if (closest == null)
-			return null;
+		RaytraceContext context = RaytraceContext.get().set(ray, dest);
+		return context.intersect(pos, aabbs) ? context.toResult() : null;
+	}
+
+	/**
+	 * Does the raytracing for the block at the {@link BlockPos} from {@code src} to {@code dest}.<br>
+	 * Unlike the constructors, no intermediate {@link Ray}, {@link Point} or {@link Vector} is allocated.
+	 *
+	 * @param world the world
+	 * @param src the src
+	 * @param dest the dest
+	 * @param pos the pos
+	 * @return {@link RayTraceResult} with <code>typeOfHit</code> <b>BLOCK</b> if the ray hits the block, null otherwise
+	 */
+	public static RayTraceResult trace(World world, Vec3d src, Vec3d dest, BlockPos pos)
+	{
+		IBlockState state = world.getBlockState(pos);
+		if (!(state.getBlock() instanceof IBoundingBox))
+			return state.collisionRayTrace(world, pos, src, dest);
 
-		return new RayTraceResult(closest.getRight().toVec3d(), closest.getLeft(), pos);
+		AxisAlignedBB[] aabbs = ((IBoundingBox) state.getBlock()).getRayTraceBoundingBox(world, pos, state);
+		RaytraceContext context = RaytraceContext.get().set(src, dest);
+		return context.intersect(pos, aabbs) ? context.toResult() : null;
 	}
 }
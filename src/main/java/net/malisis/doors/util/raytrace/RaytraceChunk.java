@@ -24,30 +24,25 @@
 
 package net.malisis.doors.util.raytrace;
 
-import java.util.Optional;
-
 import net.malisis.doors.util.Point;
 import net.malisis.doors.util.Ray;
-import net.malisis.doors.util.Utils;
 import net.malisis.doors.util.Vector;
 import net.malisis.doors.util.chunkcollision.ChunkCollision;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
-import net.minecraft.util.math.RayTraceResult.Type;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 
 /**
+ * Ray traces the {@link net.malisis.doors.util.chunkcollision.IChunkCollidable} stored in the chunks crossed by a ray.<br>
+ * The actual tracing is done by {@link ChunkCollision#trace(World, RaytraceContext)}.
+ *
  * @author Ordinastie
  *
  */
 public class RaytraceChunk extends Raytrace
 {
-	private static final int MAX_CHUNKS = 16;
 	/** World object (needed for ray tracing inside each block). */
 	private World world;
-	/** Vector describing the direction of steps to take when reaching limits of a block. */
-	private Vector step;
 
 	/**
 	 * Instantiates a new {@link RaytraceChunk}.
@@ -59,14 +54,6 @@ public class RaytraceChunk extends Raytrace
 	{
 		super(ray);
 		this.world = world;
-
-		int stepX = 16, stepZ = 16;
-		if (ray.direction.x < 0)
-			stepX = -16;
-		if (ray.direction.z < 0)
-			stepZ = -16;
-
-		step = new Vector(stepX, 0, stepZ);
 	}
 
 	/**
@@ -102,76 +89,13 @@ public class RaytraceChunk extends Raytrace
 	 */
 	public RayTraceResult trace()
 	{
-		RayTraceResult mop = null, firstHit = null;
-		double tX, tZ, min;
-		int count = 0;
-		boolean ret = false;
-
-		int currentX = (int) src.x;
-		int currentZ = (int) src.z;
-
-		while (!ret && count++ <= MAX_CHUNKS)
-		{
-			tX = ray.intersectX((currentX / 16) * 16 + (ray.direction.x > 0 ? 16 : 0));
-			tZ = ray.intersectZ((currentZ / 16) * 16 + (ray.direction.z > 0 ? 16 : 0));
-
-			min = getMin(tX, tZ);
-			Point exit = ray.getPointAt(min);
-			if (exit == null || exit.y <= 0 || exit.y >= 256)
-				ret = true;
-
-			if (dest != null && exit != null && Point.distanceSquared(src, dest) < Point.distanceSquared(src, exit))
-				ret = true;
-
-			Optional<Chunk> chunk = Utils.getLoadedChunk(world, new BlockPos(currentX, 0, currentZ));
-			if (chunk.isPresent())
-				mop = ChunkCollision.get().processCallbacks(chunk.get(), src, dest);
-			else
-				ret = true;
-
-			firstHit = Raytrace.getClosestHit(Type.BLOCK, src, firstHit, mop);
+		RaytraceContext context = RaytraceContext.get().set(ray, dest);
+		if (ChunkCollision.get().trace(world, context))
+			return context.toResult();
 
-			if (dest != null && currentX == (int) dest.x && currentZ == (int) dest.y)
-				ret = true;
+		if (dest != null)
+			return new RayTraceResult(RayTraceResult.Type.MISS, dest.toVec3d(), null, new BlockPos(dest.x, 0, dest.z));
 
-			if (!ret)
-			{
-				if (min == tX)
-					currentX += step.x;
-				if (min == tZ)
-					currentZ += step.z;
-			}
-
-			if (dest != null && dest.equals(ray.getPointAt(min)))
-				ret = true;
-
-		}
-
-		if (firstHit == null && dest != null)
-			firstHit = new RayTraceResult(RayTraceResult.Type.MISS, dest.toVec3d(), null, new BlockPos(currentX, 0, currentZ));
-
-		return firstHit;
-	}
-
-	/**
-	 * Gets the minimum value of <code>x</code>, <code>z</code>.
-	 *
-	 * @param x the x
-	 * @param z the z
-	 * @return <code>Double.NaN</code> if <code>x</code> and <code>z</code> are all three <code>Double.NaN</code>
-	 */
-	public double getMin(double x, double z)
-	{
-		double ret = Double.NaN;
-		if (!Double.isNaN(x))
-			ret = x;
-		if (!Double.isNaN(z))
-		{
-			if (!Double.isNaN(ret))
-				ret = Math.min(ret, z);
-			else
-				ret = z;
-		}
-		return ret;
+		return null;
 	}
 }
@@ -0,0 +1,411 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.raytrace;
+
+import net.malisis.doors.util.Point;
+import net.malisis.doors.util.Ray;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Mutable and reusable ray tracing context, holding the ray and the closest hit found so far as primitive values.<br>
+ * Intersections are computed with a slab test and no object is allocated until {@link #toResult()} is called for a hit.<br>
+ * One context is available per thread through {@link #get()}. It is not reentrant : a context must not be used while another trace with
+ * the same context is ongoing.
+ *
+ * @author Ordinastie
+ */
+public class RaytraceContext
+{
+	private static final ThreadLocal<RaytraceContext> contexts = ThreadLocal.withInitial(RaytraceContext::new);
+
+	/** Origin of the ray. */
+	private double srcX, srcY, srcZ;
+	/** Direction of the ray (not normalized). */
+	private double dirX, dirY, dirZ;
+	/** Max distance along the ray for a hit to be valid (exclusive). */
+	private double maxT;
+
+	/** Distance along the ray of the closest hit. */
+	private double hitT;
+	/** Side hit by the closest hit. */
+	private EnumFacing hitSide;
+	/** Position of the block for the closest hit, as {@link BlockPos#toLong()}. */
+	private long hitPos;
+	/** Side computed by the last {@link #slab(double, double, double, double, double, double)} call. */
+	private EnumFacing slabSide;
+	/** Entry and exit distances computed by the last {@link #slab(double, double, double, double, double, double)} call. */
+	private double slabNear, slabFar;
+
+	/**
+	 * Gets the {@link RaytraceContext} for the current thread.
+	 *
+	 * @return the raytrace context
+	 */
+	public static RaytraceContext get()
+	{
+		return contexts.get();
+	}
+
+	/**
+	 * Sets the ray from {@code src} to {@code dest} and clears the current hit.<br>
+	 * Hits are only valid before {@code dest}.
+	 *
+	 * @return this {@link RaytraceContext}
+	 */
+	public RaytraceContext set(double srcX, double srcY, double srcZ, double destX, double destY, double destZ)
+	{
+		return set(srcX, srcY, srcZ, destX - srcX, destY - srcY, destZ - srcZ, 1);
+	}
+
+	/**
+	 * Sets the ray from its origin, direction and max distance, and clears the current hit.
+	 *
+	 * @param maxT the max distance along the ray, as a multiple of the direction vector
+	 * @return this {@link RaytraceContext}
+	 */
+	public RaytraceContext set(double srcX, double srcY, double srcZ, double dirX, double dirY, double dirZ, double maxT)
+	{
+		this.srcX = srcX;
+		this.srcY = srcY;
+		this.srcZ = srcZ;
+		this.dirX = dirX;
+		this.dirY = dirY;
+		this.dirZ = dirZ;
+		this.maxT = maxT;
+		clearHit();
+		return this;
+	}
+
+	/**
+	 * Sets the ray from {@code src} to {@code dest} and clears the current hit.
+	 *
+	 * @param src the src
+	 * @param dest the dest
+	 * @return this {@link RaytraceContext}
+	 */
+	public RaytraceContext set(Vec3d src, Vec3d dest)
+	{
+		return set(src.x, src.y, src.z, dest.x, dest.y, dest.z);
+	}
+
+	/**
+	 * Sets the {@link Ray}, limited to {@code dest} if not null, and clears the current hit.
+	 *
+	 * @param ray the ray
+	 * @param dest the dest
+	 * @return this {@link RaytraceContext}
+	 */
+	public RaytraceContext set(Ray ray, Point dest)
+	{
+		double maxT = Double.POSITIVE_INFINITY;
+		if (dest != null)
+			maxT = Math.sqrt(Point.distanceSquared(ray.origin, dest) / ray.direction.lengthSquared());
+		return set(ray.origin.x, ray.origin.y, ray.origin.z, ray.direction.x, ray.direction.y, ray.direction.z, maxT);
+	}
+
+	/**
+	 * Clears the current hit.
+	 */
+	public void clearHit()
+	{
+		hitT = Double.POSITIVE_INFINITY;
+		hitSide = null;
+		hitPos = 0;
+	}
+
+	public double getSrcX()
+	{
+		return srcX;
+	}
+
+	public double getSrcY()
+	{
+		return srcY;
+	}
+
+	public double getSrcZ()
+	{
+		return srcZ;
+	}
+
+	public double getDirX()
+	{
+		return dirX;
+	}
+
+	public double getDirZ()
+	{
+		return dirZ;
+	}
+
+	public double getMaxT()
+	{
+		return maxT;
+	}
+
+	/**
+	 * Checks whether a hit was found.
+	 *
+	 * @return true, if successful
+	 */
+	public boolean hasHit()
+	{
+		return hitSide != null;
+	}
+
+	/**
+	 * Gets the distance along the ray of the closest hit, or {@link Double#POSITIVE_INFINITY} if there is none.
+	 *
+	 * @return the hit distance
+	 */
+	public double getHitT()
+	{
+		return hitT;
+	}
+
+	public EnumFacing getHitSide()
+	{
+		return hitSide;
+	}
+
+	public double getHitX()
+	{
+		return srcX + hitT * dirX;
+	}
+
+	public double getHitY()
+	{
+		return srcY + hitT * dirY;
+	}
+
+	public double getHitZ()
+	{
+		return srcZ + hitT * dirZ;
+	}
+
+	/**
+	 * Gets the squared distance between the source and the closest hit.
+	 *
+	 * @return the distance squared
+	 */
+	public double getHitDistanceSquared()
+	{
+		return hitT * hitT * (dirX * dirX + dirY * dirY + dirZ * dirZ);
+	}
+
+	/**
+	 * Intersects the ray with the {@link AxisAlignedBB AxisAlignedBBs} offset by {@code pos}, keeping the closest hit.
+	 *
+	 * @param pos the position of the block, used for the offset and stored with the hit
+	 * @param aabbs the aabbs, relative to pos
+	 * @return true, if a closer hit was found
+	 */
+	public boolean intersect(BlockPos pos, AxisAlignedBB... aabbs)
+	{
+		return intersect(pos.getX(), pos.getY(), pos.getZ(), pos.toLong(), aabbs);
+	}
+
+	/**
+	 * Intersects the ray with the world space {@link AxisAlignedBB AxisAlignedBBs}, keeping the closest hit.
+	 *
+	 * @param pos the position of the block stored with the hit, as {@link BlockPos#toLong()}
+	 * @param aabbs the aabbs, in world space
+	 * @return true, if a closer hit was found
+	 */
+	public boolean intersect(long pos, AxisAlignedBB... aabbs)
+	{
+		return intersect(0, 0, 0, pos, aabbs);
+	}
+
+	private boolean intersect(double x, double y, double z, long pos, AxisAlignedBB[] aabbs)
+	{
+		if (aabbs == null)
+			return false;
+
+		boolean hit = false;
+		for (AxisAlignedBB aabb : aabbs)
+		{
+			if (aabb != null && intersect(aabb.minX + x, aabb.minY + y, aabb.minZ + z, aabb.maxX + x, aabb.maxY + y, aabb.maxZ + z))
+			{
+				hitPos = pos;
+				hit = true;
+			}
+		}
+		return hit;
+	}
+
+	/**
+	 * Checks whether the ray intersects the {@link AxisAlignedBB} closer than the current hit, without storing anything.<br>
+	 * Used for broad-phase checks, so the source being inside the box counts as an intersection regardless of where the ray exits it.
+	 *
+	 * @param aabb the aabb
+	 * @return true, if successful
+	 */
+	public boolean intersects(AxisAlignedBB aabb)
+	{
+		if (aabb == null)
+			return false;
+		if (slab(aabb.minX, aabb.minY, aabb.minZ, aabb.maxX, aabb.maxY, aabb.maxZ) < 0)
+			return false;
+		return slabFar >= 0 && Math.max(slabNear, 0) < Math.min(maxT, hitT);
+	}
+
+	/**
+	 * Intersects the ray with the {@link AxisAlignedBB AxisAlignedBBs}, keeping the closest hit.
+	 *
+	 * @param aabbs the aabbs
+	 * @return true, if a closer hit was found
+	 */
+	public boolean intersect(AxisAlignedBB... aabbs)
+	{
+		return intersect(BlockPos.ORIGIN, aabbs);
+	}
+
+	/**
+	 * Intersects the ray with the box, keeping the hit if closer than the current one.<br>
+	 * If the source is inside the box, the exit point is used.
+	 *
+	 * @return true, if a closer hit was found
+	 */
+	public boolean intersect(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+	{
+		double t = slab(minX, minY, minZ, maxX, maxY, maxZ);
+		if (t < 0 || t >= maxT || t >= hitT)
+			return false;
+
+		hitT = t;
+		hitSide = slabSide;
+		return true;
+	}
+
+	/**
+	 * Computes the distance along the ray to the box using a slab test, and stores the corresponding side in {@link #slabSide}.<br>
+	 * If the source is inside the box, the exit point is used.
+	 *
+	 * @return the distance, or -1 if the ray doesn't intersect the box
+	 */
+	private double slab(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+	{
+		double tNear = Double.NEGATIVE_INFINITY, tFar = Double.POSITIVE_INFINITY;
+		EnumFacing nearSide = null, farSide = null;
+		double t1, t2;
+
+		if (dirX == 0)
+		{
+			if (srcX < minX || srcX > maxX)
+				return -1;
+		}
+		else
+		{
+			t1 = (minX - srcX) / dirX;
+			t2 = (maxX - srcX) / dirX;
+			if (dirX > 0)
+			{
+				tNear = t1;
+				nearSide = EnumFacing.WEST;
+				tFar = t2;
+				farSide = EnumFacing.EAST;
+			}
+			else
+			{
+				tNear = t2;
+				nearSide = EnumFacing.EAST;
+				tFar = t1;
+				farSide = EnumFacing.WEST;
+			}
+		}
+
+		if (dirY == 0)
+		{
+			if (srcY < minY || srcY > maxY)
+				return -1;
+		}
+		else
+		{
+			t1 = (minY - srcY) / dirY;
+			t2 = (maxY - srcY) / dirY;
+			double near = dirY > 0 ? t1 : t2;
+			double far = dirY > 0 ? t2 : t1;
+			if (near > tNear)
+			{
+				tNear = near;
+				nearSide = dirY > 0 ? EnumFacing.DOWN : EnumFacing.UP;
+			}
+			if (far < tFar)
+			{
+				tFar = far;
+				farSide = dirY > 0 ? EnumFacing.UP : EnumFacing.DOWN;
+			}
+		}
+
+		if (dirZ == 0)
+		{
+			if (srcZ < minZ || srcZ > maxZ)
+				return -1;
+		}
+		else
+		{
+			t1 = (minZ - srcZ) / dirZ;
+			t2 = (maxZ - srcZ) / dirZ;
+			double near = dirZ > 0 ? t1 : t2;
+			double far = dirZ > 0 ? t2 : t1;
+			if (near > tNear)
+			{
+				tNear = near;
+				nearSide = dirZ > 0 ? EnumFacing.NORTH : EnumFacing.SOUTH;
+			}
+			if (far < tFar)
+			{
+				tFar = far;
+				farSide = dirZ > 0 ? EnumFacing.SOUTH : EnumFacing.NORTH;
+			}
+		}
+
+		slabNear = tNear;
+		slabFar = tFar;
+		if (tNear > tFar || tFar < 0)
+			return -1;
+
+		//source inside the box, use the exit point
+		slabSide = tNear >= 0 ? nearSide : farSide;
+		return slabSide != null ? (tNear >= 0 ? tNear : tFar) : -1;
+	}
+
+	/**
+	 * Creates the {@link RayTraceResult} for the closest hit.
+	 *
+	 * @return the ray trace result, or null if there was no hit
+	 */
+	public RayTraceResult toResult()
+	{
+		if (!hasHit())
+			return null;
+		return new RayTraceResult(new Vec3d(getHitX(), getHitY(), getHitZ()), hitSide, BlockPos.fromLong(hitPos));
+	}
+}
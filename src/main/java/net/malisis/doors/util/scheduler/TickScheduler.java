@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.scheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.malisis.doors.registry.AutoLoad;
+import net.malisis.doors.util.Utils;
+import net.malisis.doors.util.scheduler.TimingWheel.Task;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * The {@link TickScheduler} runs actions after a number of ticks of a {@link World}.<br>
+ * Each world has its own {@link TimingWheel}, advanced once per world tick, so the scheduled actions follow the game time even when the
+ * server lags.
+ *
+ * @author Ordinastie
+ */
+@AutoLoad
+public class TickScheduler
+{
+	private static TickScheduler instance = new TickScheduler();
+
+	/** {@link TimingWheel} per {@link World}, server side. */
+	private Map<World, TimingWheel> serverWheels = new HashMap<>();
+	/** {@link TimingWheel} for the client {@link World}. */
+	private TimingWheel clientWheel = new TimingWheel();
+
+	private TickScheduler()
+	{
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	private TimingWheel wheel(World world)
+	{
+		if (world.isRemote)
+			return clientWheel;
+		return serverWheels.computeIfAbsent(world, w -> new TimingWheel());
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase != Phase.END || event.world.isRemote)
+			return;
+
+		TimingWheel wheel = serverWheels.get(event.world);
+		if (wheel != null)
+			wheel.advance();
+	}
+
+	@SideOnly(Side.CLIENT)
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event)
+	{
+		//the client world is not ticked while the game is paused
+		if (event.phase != Phase.END || Utils.getClientWorld() == null || Minecraft.getMinecraft().isGamePaused())
+			return;
+
+		clientWheel.advance();
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (event.getWorld().isRemote)
+			clientWheel = new TimingWheel();
+		else
+			serverWheels.remove(event.getWorld());
+	}
+
+	/**
+	 * Schedules the action to be run after <i>delay</i> ticks of the {@link World}.
+	 *
+	 * @param world the world
+	 * @param delay the delay
+	 * @param action the action
+	 * @return the task
+	 */
+	public static Task schedule(World world, long delay, Runnable action)
+	{
+		return instance.wheel(world).schedule(delay, action);
+	}
+
+	/**
+	 * Gets the number of ticks elapsed for the {@link World} since the scheduler started tracking it.
+	 *
+	 * @param world the world
+	 * @return the tick
+	 */
+	public static long getTick(World world)
+	{
+		return instance.wheel(world).getTick();
+	}
+}
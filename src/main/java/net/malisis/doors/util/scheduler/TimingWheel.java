@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.scheduler;
+
+/**
+ * Hierarchical timing wheel counting in ticks.<br>
+ * Tasks are stored in the slot of the wheel matching their deadline, and are cascaded down to the lower wheels as time advances. Scheduling
+ * and cancelling a task is O(1), and advancing only processes the tasks that are due or need to be cascaded.<br>
+ * This class is not thread safe.
+ *
+ * @author Ordinastie
+ *
+ */
+public class TimingWheel
+{
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = 4;
+	/** Maximum delay storable in the wheels, longer delays are cascaded again once reached. */
+	private static final long MAX_DELAY = (1L << SLOT_BITS * LEVELS) - 1;
+
+	/** Heads of the task lists, per level and per slot. */
+	private final Task[][] slots = new Task[LEVELS][SLOTS];
+	/** Current tick of this {@link TimingWheel}. */
+	private long tick;
+	/** Number of tasks currently scheduled. */
+	private int size;
+
+	/**
+	 * Gets the current tick of this {@link TimingWheel}.
+	 *
+	 * @return the tick
+	 */
+	public long getTick()
+	{
+		return tick;
+	}
+
+	/**
+	 * Gets the number of tasks currently scheduled.
+	 *
+	 * @return the size
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Schedules the action to be run in <i>delay</i> ticks.<br>
+	 * A delay lower than 1 runs the action on the next tick.
+	 *
+	 * @param delay the delay
+	 * @param action the action
+	 * @return the task
+	 */
+	public Task schedule(long delay, Runnable action)
+	{
+		Task task = new Task(tick + Math.max(1, delay), action);
+		insert(task);
+		size++;
+		return task;
+	}
+
+	/**
+	 * Advances this {@link TimingWheel} by one tick, and runs the tasks due on that tick.
+	 */
+	public void advance()
+	{
+		tick++;
+		int index = (int) (tick & SLOT_MASK);
+		if (index == 0)
+			cascade(1);
+
+		Task task = slots[0][index];
+		if (task == null)
+			return;
+
+		//detach the whole slot first so the actions can schedule or cancel tasks freely
+		slots[0][index] = null;
+		for (Task t = task; t != null; t = t.next)
+			t.level = -1;
+
+		while (task != null)
+		{
+			Task next = task.next;
+			task.prev = task.next = null;
+			if (task.scheduled)
+			{
+				task.scheduled = false;
+				size--;
+				task.action.run();
+			}
+			task = next;
+		}
+	}
+
+	/**
+	 * Moves the tasks of the current slot of the <i>level</i> to the lower levels.
+	 *
+	 * @param level the level
+	 */
+	private void cascade(int level)
+	{
+		int index = (int) (tick >> SLOT_BITS * level & SLOT_MASK);
+		Task task = slots[level][index];
+		slots[level][index] = null;
+		while (task != null)
+		{
+			Task next = task.next;
+			task.prev = task.next = null;
+			insert(task);
+			task = next;
+		}
+
+		if (index == 0 && level + 1 < LEVELS)
+			cascade(level + 1);
+	}
+
+	private void insert(Task task)
+	{
+		long delay = Math.min(task.deadline - tick, MAX_DELAY);
+		long target = tick + delay;
+		int level = 0;
+		while (level < LEVELS - 1 && delay >= 1L << SLOT_BITS * (level + 1))
+			level++;
+
+		int index = (int) (target >> SLOT_BITS * level & SLOT_MASK);
+		task.level = level;
+		task.index = index;
+		task.next = slots[level][index];
+		if (task.next != null)
+			task.next.prev = task;
+		slots[level][index] = task;
+	}
+
+	private void remove(Task task)
+	{
+		if (task.prev != null)
+			task.prev.next = task.next;
+		else if (task.level >= 0)
+			slots[task.level][task.index] = task.next;
+		if (task.next != null)
+			task.next.prev = task.prev;
+		task.prev = task.next = null;
+	}
+
+	/**
+	 * A task scheduled in a {@link TimingWheel}.
+	 */
+	public class Task
+	{
+		private final long deadline;
+		private final Runnable action;
+		private Task prev;
+		private Task next;
+		private int level;
+		private int index;
+		private boolean scheduled = true;
+
+		private Task(long deadline, Runnable action)
+		{
+			this.deadline = deadline;
+			this.action = action;
+		}
+
+		/**
+		 * Gets the tick this {@link Task} is due.
+		 *
+		 * @return the deadline
+		 */
+		public long getDeadline()
+		{
+			return deadline;
+		}
+
+		/**
+		 * Checks whether this {@link Task} is still waiting to be run.
+		 *
+		 * @return true, if scheduled
+		 */
+		public boolean isScheduled()
+		{
+			return scheduled;
+		}
+
+		/**
+		 * Cancels this {@link Task}. Does nothing if it already ran or was cancelled.
+		 */
+		public void cancel()
+		{
+			if (!scheduled)
+				return;
+
+			scheduled = false;
+			size--;
+			//tasks being run are already detached from their slot
+			if (level >= 0)
+				remove(this);
+		}
+	}
+}
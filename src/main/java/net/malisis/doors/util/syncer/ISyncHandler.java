@@ -24,6 +24,8 @@
 
 package net.malisis.doors.util.syncer;
 
+import java.util.List;
+
 import net.malisis.doors.util.syncer.message.SyncerMessage.Packet;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
@@ -93,4 +95,29 @@ public interface ISyncHandler<T, S extends ISyncableData>
 	 * @param packet the packet
 	 */
 	public void send(T caller, Packet<T, S> packet);
+
+	/**
+	 * Checks whether the synchronization of the caller can be batched.<br>
+	 * When batching is enabled in the {@link Syncer}, the fields synced for such callers are accumulated during the tick and sent all at
+	 * once through {@link #send(List)} at the end of the tick.
+	 *
+	 * @param caller the caller
+	 * @return true, if the synchronization can be batched
+	 */
+	public default boolean canBatch(T caller)
+	{
+		return false;
+	}
+
+	/**
+	 * Sends the syncing packets accumulated during the tick, one per caller.<br>
+	 * By default, each packet is sent individually through {@link #send(Object, Packet)}.
+	 *
+	 * @param packets the packets
+	 */
+	public default void send(List<Packet<T, S>> packets)
+	{
+		for (Packet<T, S> packet : packets)
+			send(packet.getCaller(), packet);
+	}
 }
@@ -24,10 +24,20 @@
 
 package net.malisis.doors.util.syncer;
 
-import java.util.function.BiConsumer;
-import java.util.function.Function;
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import io.netty.buffer.ByteBuf;
+import net.malisis.doors.MalisisDoors;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 
 /**
+ * {@link ObjectData} holds the accessors for a value synchronized by the {@link Syncer}.<br>
+ * The accessors are {@link MethodHandle MethodHandles} typed to the exact value type, and the codec writing and reading the value is
+ * chosen once when the {@code ObjectData} is created, so primitive values are written to and read from the {@link ByteBuf} without boxing.
+ *
  * @author Ordinastie
  *
  */
@@ -36,15 +46,105 @@ public class ObjectData
 	private int index;
 	private final String name;
 	private final Class<?> type;
-	private final Function<Object, Object> getter;
-	private final BiConsumer<Object, Object> setter;
+	private final Writer writer;
+	private final Reader reader;
 
-	public ObjectData(String name, Class<?> type, Function<Object, Object> getter, BiConsumer<Object, Object> setter)
+	/**
+	 * Instantiates a new {@link ObjectData}.<br>
+	 * The getter should take the holder as only parameter, and the setter should take the holder and the value.
+	 *
+	 * @param name the name
+	 * @param type the type
+	 * @param getter the getter
+	 * @param setter the setter
+	 * @throws ReflectiveOperationException if the type is not supported
+	 */
+	public ObjectData(String name, Class<?> type, MethodHandle getter, MethodHandle setter) throws ReflectiveOperationException
 	{
 		this.name = name;
 		this.type = type;
-		this.getter = getter;
-		this.setter = setter;
+
+		Class<?> exactType = type.isPrimitive() ? type : Object.class;
+		MethodHandle get = getter.asType(methodType(exactType, Object.class));
+		MethodHandle set = setter.asType(methodType(void.class, Object.class, exactType));
+
+		if (type == boolean.class)
+		{
+			writer = (holder, buf) -> buf.writeBoolean((boolean) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readBoolean());
+		}
+		else if (type == byte.class)
+		{
+			writer = (holder, buf) -> buf.writeByte((byte) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readByte());
+		}
+		else if (type == int.class)
+		{
+			writer = (holder, buf) -> buf.writeInt((int) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readInt());
+		}
+		else if (type == long.class)
+		{
+			writer = (holder, buf) -> buf.writeLong((long) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readLong());
+		}
+		else if (type == char.class)
+		{
+			writer = (holder, buf) -> buf.writeChar((char) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readChar());
+		}
+		else if (type == short.class)
+		{
+			writer = (holder, buf) -> buf.writeShort((short) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readShort());
+		}
+		else if (type == float.class)
+		{
+			writer = (holder, buf) -> buf.writeFloat((float) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readFloat());
+		}
+		else if (type == double.class)
+		{
+			writer = (holder, buf) -> buf.writeDouble((double) get.invokeExact(holder));
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readDouble());
+		}
+		else if (type.isEnum())
+		{
+			Object[] values = type.getEnumConstants();
+			writer = (holder, buf) -> buf.writeInt(((Enum<?>) (Object) get.invokeExact(holder)).ordinal());
+			reader = (receiver, buf) -> set.invokeExact(receiver, values[buf.readInt()]);
+		}
+		else if (type == String.class)
+		{
+			writer = (holder, buf) -> {
+				String str = (String) (Object) get.invokeExact(holder);
+				buf.writeBoolean(str != null);
+				if (str != null)
+					ByteBufUtils.writeUTF8String(buf, str);
+			};
+			reader = (receiver, buf) -> set.invokeExact(receiver, buf.readBoolean() ? (Object) ByteBufUtils.readUTF8String(buf) : null);
+		}
+		else if (ISyncableData.class.isAssignableFrom(type))
+		{
+			MethodHandle constructor = MethodHandles.publicLookup().findConstructor(type, methodType(void.class)).asType(methodType(Object.class));
+			writer = (holder, buf) -> {
+				ISyncableData data = (ISyncableData) (Object) get.invokeExact(holder);
+				buf.writeBoolean(data != null);
+				if (data != null)
+					data.toBytes(buf);
+			};
+			reader = (receiver, buf) -> {
+				ISyncableData data = null;
+				if (buf.readBoolean())
+				{
+					data = (ISyncableData) (Object) constructor.invokeExact();
+					data.fromBytes(buf);
+				}
+				set.invokeExact(receiver, (Object) data);
+			};
+		}
+		else
+			throw new ReflectiveOperationException("Type " + type.getName() + " cannot be synchronized");
 	}
 
 	public void setIndex(int index)
@@ -67,13 +167,51 @@ public class ObjectData
 		return type;
 	}
 
-	public void set(Object holder, Object value)
+	/**
+	 * Writes the value of this {@link ObjectData} for the holder into the {@link ByteBuf}.
+	 *
+	 * @param holder the holder
+	 * @param buf the buf
+	 */
+	public void write(Object holder, ByteBuf buf)
+	{
+		try
+		{
+			writer.write(holder, buf);
+		}
+		catch (Throwable e)
+		{
+			MalisisDoors.log.error("Failed to write {} for {}.", name, holder, e);
+		}
+	}
+
+	/**
+	 * Reads the value of this {@link ObjectData} from the {@link ByteBuf} and sets it on the receiver.
+	 *
+	 * @param receiver the receiver
+	 * @param buf the buf
+	 */
+	public void read(Object receiver, ByteBuf buf)
+	{
+		try
+		{
+			reader.read(receiver, buf);
+		}
+		catch (Throwable e)
+		{
+			MalisisDoors.log.error("Failed to read {} for {}.", name, receiver, e);
+		}
+	}
+
+	@FunctionalInterface
+	private static interface Writer
 	{
-		setter.accept(holder, value);
+		public void write(Object holder, ByteBuf buf) throws Throwable;
 	}
 
-	public Object get(Object holder)
+	@FunctionalInterface
+	private static interface Reader
 	{
-		return getter.apply(holder);
+		public void read(Object receiver, ByteBuf buf) throws Throwable;
 	}
 }
@@ -24,34 +24,39 @@
 
 package net.malisis.doors.util.syncer;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
 
 import com.google.common.base.Supplier;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 
+import gnu.trove.map.hash.TObjectIntHashMap;
+import io.netty.buffer.ByteBuf;
 import net.malisis.doors.MalisisCommand;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.network.DirectMessage;
 import net.malisis.doors.registry.AutoLoad;
 import net.malisis.doors.util.DoubleKeyMap;
 import net.malisis.doors.util.DoubleKeyMap.DoubleKeyEntry;
-import net.malisis.doors.util.Silenced;
 import net.malisis.doors.util.syncer.Sync.Type;
 import net.malisis.doors.util.syncer.handlers.TileEntitySyncHandler;
 import net.malisis.doors.util.syncer.message.SyncerMessage;
 import net.malisis.doors.util.syncer.message.SyncerMessage.Packet;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.discovery.ASMDataTable;
 import net.minecraftforge.fml.common.discovery.ASMDataTable.ASMData;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 
 /**
  * This class handles the synchronization between server and client objects. Objects to be synchronized need to have the {@link Syncable}
@@ -73,6 +78,14 @@ public class Syncer
 
 	private Map<Object, HashMap<String, Object>> syncCache = new HashMap<>();
 
+	/** Whether the synchronizations are batched until the end of the tick, for the {@link ISyncHandler} that allow it. */
+	private boolean batched = false;
+	/** Indexes of the fields waiting to be synchronized at the end of the tick, for each caller. */
+	private TObjectIntHashMap<Object> dirty = new TObjectIntHashMap<>();
+
+	/** Lookup used to create the accessors of the synchronized fields and methods. */
+	private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
 	private int debugMessage = DirectMessage.registerMessage(this::debugOutput);
 
 	/** Syncer instance **/
@@ -80,6 +93,7 @@ public class Syncer
 
 	private Syncer()
 	{
+		MinecraftForge.EVENT_BUS.register(this);
 		registerFactory("TileEntity", TileEntitySyncHandler::new);
 		MalisisCommand.registerDebug("syncer", Syncer::debug);
 		discover(MalisisDoors.asmDataTable);
@@ -171,7 +185,11 @@ public class Syncer
 				{
 					Sync syncAnno = f.getAnnotation(Sync.class);
 					if (syncAnno != null)
-						handler.addObjectData(getObjectData(syncAnno.value(), f));
+					{
+						ObjectData od = getObjectData(syncAnno.value(), f);
+						if (od != null)
+							handler.addObjectData(od);
+					}
 				}
 
 				Map<String, Method> gets = Maps.newHashMap();
@@ -226,21 +244,31 @@ public class Syncer
 
 	private ObjectData getObjectData(String name, Field field)
 	{
-		Function<Object, Object> getter = (holder) -> Silenced.apply(field::get, holder);
-		BiConsumer<Object, Object> setter = (holder, value) -> Silenced.accept(field::set, holder, value);
-
-		return new ObjectData(name, field.getType(), getter, setter);
+		try
+		{
+			return new ObjectData(name, field.getType(), lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+		}
+		catch (ReflectiveOperationException | RuntimeException e)
+		{
+			MalisisDoors.log.error("Could not create the accessors for field {} ({}).", field.getName(), name, e);
+			return null;
+		}
 	}
 
 	private ObjectData getObjectData(String name, Method get, Method set)
 	{
-		Function<Object, Object> getter = (holder) -> Silenced.apply(get::invoke, holder);
-		BiConsumer<Object, Object> setter = (holder, value) -> Silenced.accept(set::invoke, holder, value);
-
 		if (set.getParameterTypes()[0] != get.getReturnType())
 			return null;
 
-		return new ObjectData(name, get.getReturnType(), getter, setter);
+		try
+		{
+			return new ObjectData(name, get.getReturnType(), lookup.unreflect(get), lookup.unreflect(set));
+		}
+		catch (ReflectiveOperationException | RuntimeException e)
+		{
+			MalisisDoors.log.error("Could not create the accessors for methods {} and {} ({}).", get.getName(), set.getName(), name, e);
+			return null;
+		}
 	}
 
 	/**
@@ -263,47 +291,81 @@ public class Syncer
 	}
 
 	/**
-	 * Gets the field values for the specified names.
+	 * Synchronizes the specified fields names and sends the corresponding packet.
 	 *
+	 * @param <T> the type of the caller
 	 * @param caller the caller
-	 * @param handler the handler
 	 * @param syncNames the sync names
-	 * @return the field values
 	 */
-	private Map<String, Object> getFieldValues(Object caller, ISyncHandler<?, ? extends ISyncableData> handler, String... syncNames)
+	private <T, S extends ISyncableData> void doSync(T caller, String... syncNames)
 	{
-		Map<String, Object> values = new LinkedHashMap<>();
-		for (String str : syncNames)
+		@SuppressWarnings("unchecked")
+		ISyncHandler<T, S> handler = (ISyncHandler<T, S>) getHandler(caller);
+		if (handler == null)
+			return;
+
+		int indexes = getFieldIndexes(handler, syncNames);
+		if (indexes == 0)
+			return;
+
+		if (batched && handler.canBatch(caller))
 		{
-			ObjectData od = handler.getObjectData(str);
-			if (od != null)
-				values.put(str, od.get(caller));
+			dirty.put(caller, dirty.get(caller) | indexes);
+			return;
 		}
 
-		return values;
+		handler.send(caller, createPacket(caller, handler, indexes));
 	}
 
 	/**
-	 * Synchronizes the specified fields names and sends the corresponding packet.
+	 * Creates the {@link Packet} synchronizing the fields specified by the indexes.
 	 *
-	 * @param <T> the type of the caller
 	 * @param caller the caller
-	 * @param syncNames the sync names
+	 * @param handler the handler
+	 * @param indexes the indexes
+	 * @return the packet
 	 */
-	private <T, S extends ISyncableData> void doSync(T caller, String... syncNames)
+	private <T, S extends ISyncableData> SyncerMessage.Packet<T, S> createPacket(T caller, ISyncHandler<T, S> handler, int indexes)
 	{
-		@SuppressWarnings("unchecked")
-		ISyncHandler<T, S> handler = (ISyncHandler<T, S>) getHandler(caller);
-		if (handler == null)
+		return new Packet<>(getHandlerId(caller.getClass()), handler.getSyncData(caller), indexes, caller);
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event)
+	{
+		if (event.phase != Phase.END || dirty.isEmpty())
 			return;
 
-		S data = handler.getSyncData(caller);
-		int indexes = getFieldIndexes(handler, syncNames);
-		Map<String, Object> values = getFieldValues(caller, handler, syncNames);
+		Map<ISyncHandler<?, ?>, List<Packet<?, ?>>> batches = new IdentityHashMap<>();
+		dirty.forEachEntry((caller, indexes) -> {
+			addToBatch(batches, caller, indexes);
+			return true;
+		});
+		dirty.clear();
+
+		for (Entry<ISyncHandler<?, ?>, List<Packet<?, ?>>> entry : batches.entrySet())
+			sendBatch(entry.getKey(), entry.getValue());
+	}
 
-		SyncerMessage.Packet<T, S> packet = new Packet<>(getHandlerId(caller.getClass()), data, indexes, values);
+	/**
+	 * Creates the {@link Packet} for the caller and adds it to the batch of its {@link ISyncHandler}.
+	 *
+	 * @param batches the batches
+	 * @param caller the caller
+	 * @param indexes the indexes
+	 */
+	private <T, S extends ISyncableData> void addToBatch(Map<ISyncHandler<?, ?>, List<Packet<?, ?>>> batches, T caller, int indexes)
+	{
+		@SuppressWarnings("unchecked")
+		ISyncHandler<T, S> handler = (ISyncHandler<T, S>) getHandler(caller);
+		if (handler != null)
+			batches.computeIfAbsent(handler, h -> new ArrayList<>()).add(createPacket(caller, handler, indexes));
+	}
 
-		handler.send(caller, packet);
+	@SuppressWarnings("unchecked")
+	private <T, S extends ISyncableData> void sendBatch(ISyncHandler<T, S> handler, List<Packet<?, ?>> packets)
+	{
+		handler.send((List<Packet<T, S>>) (List<?>) packets);
 	}
 
 	private void registerAutoSync(Object caller)
@@ -315,22 +377,41 @@ public class Syncer
 	}
 
 	/**
-	 * Update the fields values for the receiver object.
+	 * Writes the values of the fields specified by the indexes into the {@link ByteBuf}, in the order of their indexes.
+	 *
+	 * @param caller the caller
+	 * @param handler the handler
+	 * @param indexes the indexes
+	 * @param buf the buf
+	 */
+	public <T> void writeValues(T caller, ISyncHandler<T, ? extends ISyncableData> handler, int indexes, ByteBuf buf)
+	{
+		while (indexes != 0)
+		{
+			handler.getObjectData(Integer.numberOfTrailingZeros(indexes)).write(caller, buf);
+			indexes &= indexes - 1;
+		}
+	}
+
+	/**
+	 * Update the fields values for the receiver object.<br>
+	 * Values are read from the {@link ByteBuf} in the order they were written by
+	 * {@link #writeValues(Object, ISyncHandler, int, ByteBuf)}.
 	 *
 	 * @param receiver the caller
 	 * @param handler the handler
-	 * @param values the values
+	 * @param indexes the indexes
+	 * @param buf the buf
 	 */
-	public <T> void updateValues(T receiver, ISyncHandler<T, ? extends ISyncableData> handler, Map<String, Object> values)
+	public <T> void updateValues(T receiver, ISyncHandler<T, ? extends ISyncableData> handler, int indexes, ByteBuf buf)
 	{
 		if (receiver == null || handler == null)
 			return;
 
-		for (Entry<String, Object> entry : values.entrySet())
+		while (indexes != 0)
 		{
-			ObjectData od = handler.getObjectData(entry.getKey());
-			if (od != null)
-				od.set(receiver, entry.getValue());
+			handler.getObjectData(Integer.numberOfTrailingZeros(indexes)).read(receiver, buf);
+			indexes &= indexes - 1;
 		}
 	}
 
@@ -357,6 +438,18 @@ public class Syncer
 		instance.registerFactory(name, supplier);
 	}
 
+	/**
+	 * Sets whether the synchronizations are batched.<br>
+	 * When batched, the fields synced for objects whose {@link ISyncHandler} {@link ISyncHandler#canBatch(Object) allows it} are merged
+	 * and sent at the end of the server tick, with the values they have at that time.
+	 *
+	 * @param batched whether to batch the synchronizations
+	 */
+	public static void setBatched(boolean batched)
+	{
+		instance.batched = batched;
+	}
+
 	/**
 	 * Synchronizes the specified fields names and sends the corresponding packet.
 	 *
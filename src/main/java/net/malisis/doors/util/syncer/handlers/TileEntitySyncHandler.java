@@ -24,14 +24,25 @@
 
 package net.malisis.doors.util.syncer.handlers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import io.netty.buffer.ByteBuf;
 import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.util.EntityUtils;
 import net.malisis.doors.util.Utils;
 import net.malisis.doors.util.syncer.ISyncableData;
 import net.malisis.doors.util.syncer.handlers.TileEntitySyncHandler.TESyncData;
+import net.malisis.doors.util.syncer.message.SyncerBatchMessage;
 import net.malisis.doors.util.syncer.message.SyncerMessage.Packet;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
 /**
@@ -67,6 +78,41 @@ public class TileEntitySyncHandler extends DefaultSyncHandler<TileEntity, TESync
 				caller.getWorld().getChunkFromChunkCoords(caller.getPos().getX() >> 4, caller.getPos().getZ() >> 4));
 	}
 
+	@Override
+	public boolean canBatch(TileEntity caller)
+	{
+		return caller.getWorld() != null && !caller.getWorld().isRemote;
+	}
+
+	/**
+	 * Sends the packets accumulated during the tick.<br>
+	 * Packets are grouped by the set of players watching the chunk of their {@link TileEntity}, and each group is sent as a single
+	 * {@link SyncerBatchMessage}.
+	 *
+	 * @param packets the packets
+	 */
+	@Override
+	public void send(List<Packet<TileEntity, TESyncData>> packets)
+	{
+		Map<Chunk, List<Packet<TileEntity, TESyncData>>> chunks = new HashMap<>();
+		for (Packet<TileEntity, TESyncData> packet : packets)
+		{
+			TileEntity te = packet.getCaller();
+			if (te.isInvalid() || !te.getWorld().isBlockLoaded(te.getPos()))
+				continue;
+			chunks.computeIfAbsent(te.getWorld().getChunkFromBlockCoords(te.getPos()), c -> new ArrayList<>()).add(packet);
+		}
+
+		Map<Set<EntityPlayerMP>, List<Packet<TileEntity, TESyncData>>> watchers = new HashMap<>();
+		chunks.forEach((chunk, list) -> {
+			List<EntityPlayerMP> players = EntityUtils.getPlayersWatchingChunk(chunk);
+			if (!players.isEmpty())
+				watchers.computeIfAbsent(new HashSet<>(players), p -> new ArrayList<>()).addAll(list);
+		});
+
+		watchers.forEach(SyncerBatchMessage::send);
+	}
+
 	public static class TESyncData implements ISyncableData
 	{
 		private BlockPos pos;
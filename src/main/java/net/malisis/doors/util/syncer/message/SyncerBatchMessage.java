@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.util.syncer.message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.network.IMalisisMessageHandler;
+import net.malisis.doors.registry.AutoLoad;
+import net.malisis.doors.util.syncer.Syncer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Message sending all the {@link SyncerMessage.Packet} batched by the {@link Syncer} during a tick for a set of players in a single packet.
+ *
+ * @author Ordinastie
+ *
+ */
+@AutoLoad(true)
+public class SyncerBatchMessage implements IMalisisMessageHandler<SyncerBatchMessage.Packet, IMessage>
+{
+	public SyncerBatchMessage()
+	{
+		MalisisDoors.network.registerMessage(this, Packet.class, Side.CLIENT);
+	}
+
+	/**
+	 * Handles the received {@link Packet} on the client.<br>
+	 * Updates the fields for each receiver object.
+	 *
+	 * @param message the message
+	 * @param ctx the ctx
+	 */
+	@Override
+	public void process(Packet message, MessageContext ctx)
+	{
+		for (SyncerMessage.Packet<?, ?> packet : message.packets)
+			SyncerMessage.doProcess(packet, ctx);
+	}
+
+	/**
+	 * Sends the {@link SyncerMessage.Packet packets} to the players.<br>
+	 * A single packet is sent as is.
+	 *
+	 * @param players the players
+	 * @param packets the packets
+	 */
+	public static void send(Collection<EntityPlayerMP> players, List<? extends SyncerMessage.Packet<?, ?>> packets)
+	{
+		if (packets.size() == 1)
+			MalisisDoors.network.sendTo(packets.get(0), players);
+		else
+			MalisisDoors.network.sendTo(new Packet(packets), players);
+	}
+
+	public static class Packet implements IMessage
+	{
+		private List<? extends SyncerMessage.Packet<?, ?>> packets;
+
+		public Packet()
+		{}
+
+		public Packet(List<? extends SyncerMessage.Packet<?, ?>> packets)
+		{
+			this.packets = packets;
+		}
+
+		@Override
+		public void fromBytes(ByteBuf buf)
+		{
+			int count = buf.readInt();
+			List<SyncerMessage.Packet<?, ?>> packets = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				//each packet is length-prefixed as it reads all the bytes left for its values
+				SyncerMessage.Packet<?, ?> packet = new SyncerMessage.Packet<>();
+				packet.fromBytes(buf.readSlice(buf.readInt()));
+				packets.add(packet);
+			}
+			this.packets = packets;
+		}
+
+		@Override
+		public void toBytes(ByteBuf buf)
+		{
+			buf.writeInt(packets.size());
+			for (SyncerMessage.Packet<?, ?> packet : packets)
+			{
+				int start = buf.writerIndex();
+				buf.writeInt(0);
+				packet.toBytes(buf);
+				buf.setInt(start, buf.writerIndex() - start - 4);
+			}
+		}
+	}
+}
@@ -24,10 +24,6 @@
 
 package net.malisis.doors.util.syncer.message;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-
 import io.netty.buffer.ByteBuf;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.inventory.MalisisInventoryContainer;
@@ -35,9 +31,7 @@ import net.malisis.doors.network.IMalisisMessageHandler;
 import net.malisis.doors.registry.AutoLoad;
 import net.malisis.doors.util.syncer.ISyncHandler;
 import net.malisis.doors.util.syncer.ISyncableData;
-import net.malisis.doors.util.syncer.ObjectData;
 import net.malisis.doors.util.syncer.Syncer;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.relauncher.Side;
@@ -75,11 +69,22 @@ public class SyncerMessage implements IMalisisMessageHandler<SyncerMessage.Packe
 		doProcess(message, ctx);
 	}
 
-	public <T, S extends ISyncableData> void doProcess(Packet<T, S> message, MessageContext ctx)
+	public static <T, S extends ISyncableData> void doProcess(Packet<T, S> message, MessageContext ctx)
 	{
 		ISyncHandler<T, S> handler = message.getHandler();
-		T receiver = handler.getReceiver(ctx, message.data);
-		Syncer.instance.updateValues(receiver, handler, message.values);
+		if (handler == null)
+			return;
+
+		try
+		{
+			T receiver = handler.getReceiver(ctx, message.data);
+			Syncer.instance.updateValues(receiver, handler, message.indexes, message.values);
+		}
+		finally
+		{
+			//values were copied into a buffer from the channel allocator in fromBytes()
+			message.values.release();
+		}
 	}
 
 	public static class Packet<T, S extends ISyncableData> implements IMessage
@@ -87,17 +92,31 @@ public class SyncerMessage implements IMalisisMessageHandler<SyncerMessage.Packe
 		private int handlerId;
 		private S data;
 		private int indexes;
-		private Map<String, Object> values;
+		/** Object the values are read from (sending side). */
+		private T caller;
+		/** Encoded values (receiving side). */
+		private ByteBuf values;
 
 		public Packet()
 		{}
 
-		public Packet(int handlerId, S data, int fieldIndexes, Map<String, Object> fieldValues)
+		public Packet(int handlerId, S data, int fieldIndexes, T caller)
 		{
 			this.handlerId = handlerId;
 			this.data = data;
 			this.indexes = fieldIndexes;
-			this.values = fieldValues;
+			this.caller = caller;
+		}
+
+		/**
+		 * Gets the object the values are read from.<br>
+		 * Only available on the sending side.
+		 *
+		 * @return the caller
+		 */
+		public T getCaller()
+		{
+			return caller;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -122,67 +141,8 @@ public class SyncerMessage implements IMalisisMessageHandler<SyncerMessage.Packe
 			//indexes
 			indexes = buf.readInt();
 
-			//values
-			values = new HashMap<>();
-
-			int index = 0;
-			Object data;
-			Class<?> clazz;
-			while (indexes > 0)
-			{
-				if ((indexes & 1) != 0)
-				{
-					data = null;
-					ObjectData od = handler.getObjectData(index);
-					clazz = od.getType();
-
-					if (ISyncableData.class.isAssignableFrom(clazz))
-					{
-						if (buf.readBoolean())
-						{
-							try
-							{
-								data = clazz.newInstance();
-								((ISyncableData) data).fromBytes(buf);
-							}
-							catch (InstantiationException | IllegalAccessException e)
-							{
-								e.printStackTrace();
-							}
-						}
-					}
-					else if (clazz.isEnum())
-					{
-						data = clazz.getEnumConstants()[buf.readInt()];
-					}
-					else if (clazz == String.class)
-					{
-						if (buf.readBoolean())
-							data = ByteBufUtils.readUTF8String(buf);
-					}
-					else if (clazz == boolean.class)
-						data = buf.readBoolean();
-					else if (clazz == byte.class)
-						data = buf.readByte();
-					else if (clazz == int.class)
-						data = buf.readInt();
-					else if (clazz == long.class)
-						data = buf.readLong();
-					else if (clazz == char.class)
-						data = buf.readChar();
-					else if (clazz == short.class)
-						data = buf.readShort();
-					else if (clazz == float.class)
-						data = buf.readFloat();
-					else if (clazz == double.class)
-						data = buf.readDouble();
-
-					values.put(od.getName(), data);
-				}
-
-				indexes = indexes >> 1;
-				index++;
-			}
+			//values are decoded directly into the receiver when the message is processed
+			values = buf.readBytes(buf.readableBytes());
 		}
 
 		@Override
@@ -194,45 +154,8 @@ public class SyncerMessage implements IMalisisMessageHandler<SyncerMessage.Packe
 			data.toBytes(buf);
 			//indexes
 			buf.writeInt(indexes);
-
 			//values
-			for (Entry<String, Object> entry : values.entrySet())
-			{
-				Object obj = entry.getValue();
-
-				if (obj == null)
-					obj = false;
-				else if (obj instanceof ISyncableData)
-				{
-					buf.writeBoolean(true);
-					((ISyncableData) obj).toBytes(buf);
-				}
-				else if (obj instanceof Enum)
-				{
-					buf.writeInt(((Enum<?>) obj).ordinal());
-				}
-				else if (obj instanceof String)
-				{
-					buf.writeBoolean(true);
-					ByteBufUtils.writeUTF8String(buf, (String) obj);
-				}
-				else if (obj instanceof Boolean)
-					buf.writeBoolean((boolean) obj);
-				else if (obj instanceof Byte)
-					buf.writeByte((byte) obj);
-				else if (obj instanceof Integer)
-					buf.writeInt((int) obj);
-				else if (obj instanceof Long)
-					buf.writeLong((long) obj);
-				else if (obj instanceof Character)
-					buf.writeChar((char) obj);
-				else if (obj instanceof Short)
-					buf.writeShort((short) obj);
-				else if (obj instanceof Float)
-					buf.writeFloat((float) obj);
-				else if (obj instanceof Double)
-					buf.writeDouble((double) obj);
-			}
+			Syncer.instance.writeValues(caller, getHandler(), indexes, buf);
 		}
 	}
 }